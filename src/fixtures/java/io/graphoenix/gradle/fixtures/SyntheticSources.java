@@ -0,0 +1,204 @@
+package io.graphoenix.gradle.fixtures;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+public final class SyntheticSources {
+
+  public static final String PACKAGE_NAME = "io.graphoenix.synthetic";
+  public static final int GROUP_SIZE = 100;
+
+  private SyntheticSources() {}
+
+  public static Path create(int types) throws IOException {
+    Path sourcePath = Files.createTempDirectory("graphoenix-synthetic");
+    writePackageInfo(sourcePath);
+    for (int index = 0; index < types; index++) {
+      if (isEnum(index)) {
+        writeEnum(sourcePath, index);
+      } else if (isInput(index)) {
+        writeInput(sourcePath, index);
+      } else {
+        writeType(sourcePath, index);
+      }
+    }
+    for (int group = 0; group * GROUP_SIZE < types; group++) {
+      String packageName = getPackageName(group * GROUP_SIZE);
+      write(
+          sourcePath,
+          packageName,
+          "Api" + group,
+          buildApi(packageName, group, Math.min(GROUP_SIZE, types - group * GROUP_SIZE)));
+    }
+    return sourcePath;
+  }
+
+  public static void delete(Path path) throws IOException {
+    if (Files.notExists(path)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(path)) {
+      for (Path each : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(each);
+      }
+    }
+  }
+
+  public static String getPackageName(int index) {
+    return PACKAGE_NAME + ".group" + index / GROUP_SIZE;
+  }
+
+  public static String getQualifiedName(String prefix, int index) {
+    return getPackageName(index) + "." + prefix + index;
+  }
+
+  public static Path getPackagePath(Path sourcePath, String packageName) {
+    return sourcePath.resolve(packageName.replace('.', '/'));
+  }
+
+  public static void writePackageInfo(Path sourcePath) throws IOException {
+    write(sourcePath, PACKAGE_NAME, "package-info", buildPackageInfo());
+  }
+
+  public static void writeType(Path sourcePath, int index) throws IOException {
+    String packageName = getPackageName(index);
+    write(sourcePath, packageName, "Type" + index, buildType(packageName, index));
+  }
+
+  public static void writeInput(Path sourcePath, int index) throws IOException {
+    String packageName = getPackageName(index);
+    write(sourcePath, packageName, "Input" + index, buildInput(packageName, index));
+  }
+
+  public static void writeEnum(Path sourcePath, int index) throws IOException {
+    String packageName = getPackageName(index);
+    write(sourcePath, packageName, "Enum" + index, buildEnum(packageName, index));
+  }
+
+  public static void write(Path sourcePath, String packageName, String className, String source)
+      throws IOException {
+    Path packagePath = getPackagePath(sourcePath, packageName);
+    Files.createDirectories(packagePath);
+    Files.writeString(packagePath.resolve(className + ".java"), source);
+  }
+
+  private static boolean isEnum(int index) {
+    return index % 10 == 9;
+  }
+
+  private static boolean isInput(int index) {
+    return index % 10 == 8;
+  }
+
+  private static String buildPackageInfo() {
+    return "@Package\n"
+        + "package "
+        + PACKAGE_NAME
+        + ";\n\n"
+        + "import io.graphoenix.spi.annotation.Package;\n";
+  }
+
+  private static String buildType(String packageName, int index) {
+    return "package "
+        + packageName
+        + ";\n\n"
+        + "import org.eclipse.microprofile.graphql.Type;\n\n"
+        + "import java.math.BigDecimal;\n"
+        + "import java.time.LocalDateTime;\n"
+        + "import java.util.List;\n\n"
+        + "@Type\n"
+        + "public class Type"
+        + index
+        + " {\n\n"
+        + "  private String name;\n"
+        + "  private Integer count;\n"
+        + "  private BigDecimal amount;\n"
+        + "  private LocalDateTime createTime;\n"
+        + "  private List<String> tags;\n\n"
+        + "  public String getName() {\n    return name;\n  }\n\n"
+        + "  public Integer getCount() {\n    return count;\n  }\n\n"
+        + "  public BigDecimal getAmount() {\n    return amount;\n  }\n\n"
+        + "  public LocalDateTime getCreateTime() {\n    return createTime;\n  }\n\n"
+        + "  public List<String> getTags() {\n    return tags;\n  }\n"
+        + "}\n";
+  }
+
+  private static String buildInput(String packageName, int index) {
+    return "package "
+        + packageName
+        + ";\n\n"
+        + "import org.eclipse.microprofile.graphql.Input;\n\n"
+        + "@Input\n"
+        + "public class Input"
+        + index
+        + " {\n\n"
+        + "  private String name;\n"
+        + "  private Integer count;\n\n"
+        + "  public String getName() {\n    return name;\n  }\n\n"
+        + "  public Integer getCount() {\n    return count;\n  }\n"
+        + "}\n";
+  }
+
+  private static String buildEnum(String packageName, int index) {
+    return "package "
+        + packageName
+        + ";\n\n"
+        + "import org.eclipse.microprofile.graphql.Enum;\n\n"
+        + "@Enum\n"
+        + "public enum Enum"
+        + index
+        + " {\n"
+        + "  ACTIVE,\n"
+        + "  INACTIVE,\n"
+        + "  ARCHIVED\n"
+        + "}\n";
+  }
+
+  private static String buildApi(String packageName, int group, int size) {
+    int typeIndex = group * GROUP_SIZE;
+    StringBuilder stringBuilder =
+        new StringBuilder("package ")
+            .append(packageName)
+            .append(";\n\n")
+            .append("import org.eclipse.microprofile.graphql.GraphQLApi;\n")
+            .append("import org.eclipse.microprofile.graphql.Mutation;\n")
+            .append("import org.eclipse.microprofile.graphql.Query;\n")
+            .append("import org.eclipse.microprofile.graphql.Source;\n\n")
+            .append("import java.util.List;\n\n")
+            .append("@GraphQLApi\n")
+            .append("public class Api")
+            .append(group)
+            .append(" {\n\n")
+            .append("  @Query\n")
+            .append("  public Type")
+            .append(typeIndex)
+            .append(" type")
+            .append(typeIndex)
+            .append("(String name) {\n    return null;\n  }\n\n")
+            .append("  @Query\n")
+            .append("  public List<Type")
+            .append(typeIndex)
+            .append("> type")
+            .append(typeIndex)
+            .append("List(Integer first) {\n    return null;\n  }\n\n")
+            .append("  public String description(@Source Type")
+            .append(typeIndex)
+            .append(" type) {\n    return null;\n  }\n");
+    int inputIndex = typeIndex + 8;
+    if (size > 8) {
+      stringBuilder
+          .append("\n  @Mutation\n")
+          .append("  public Type")
+          .append(typeIndex)
+          .append(" saveType")
+          .append(typeIndex)
+          .append("(Input")
+          .append(inputIndex)
+          .append(" input) {\n    return null;\n  }\n");
+    }
+    return stringBuilder.append("}\n").toString();
+  }
+}
@@ -0,0 +1,57 @@
+package io.graphoenix.gradle.handler;
+
+import com.github.javaparser.ast.CompilationUnit;
+import io.graphoenix.gradle.fixtures.SyntheticSources;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BuildCompilationUnitsBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  private int types;
+
+  @Param({"1", "4", "8"})
+  private int parallelism;
+
+  private Path sourcePath;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    sourcePath = SyntheticSources.create(types);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    SyntheticSources.delete(sourcePath);
+  }
+
+  @Benchmark
+  public List<CompilationUnit> buildCompilationUnits() throws IOException {
+    try (JavaSourceRegister javaSourceRegister =
+        new JavaSourceRegister(sourcePath, "", List.of(), parallelism)) {
+      return javaSourceRegister.buildCompilationUnits();
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package io.graphoenix.gradle.handler;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.resolution.types.ResolvedType;
+import io.graphoenix.core.config.PackageConfig;
+import io.graphoenix.core.handler.DocumentManager;
+import io.graphoenix.gradle.fixtures.SyntheticSources;
+import io.nozdormu.spi.context.BeanContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExtractionBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  private int types;
+
+  private Path sourcePath;
+  private List<File> classpath;
+  private JavaSourceRegister javaSourceRegister;
+  private List<Type> astTypes;
+  private List<String> typeNames;
+  private List<ResolvedType> resolvedTypes;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    sourcePath = SyntheticSources.create(types);
+    classpath =
+        Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+            .map(File::new)
+            .collect(Collectors.toList());
+    BeanContext.get(PackageConfig.class).setPackageName(SyntheticSources.PACKAGE_NAME);
+    javaSourceRegister = new JavaSourceRegister(sourcePath, "", classpath);
+    astTypes = new ArrayList<>();
+    for (CompilationUnit compilationUnit : javaSourceRegister.buildCompilationUnits()) {
+      compilationUnit.findAll(FieldDeclaration.class).stream()
+          .map(FieldDeclaration::getElementType)
+          .forEach(astTypes::add);
+      compilationUnit.findAll(MethodDeclaration.class).stream()
+          .map(MethodDeclaration::getType)
+          .filter(type -> !type.isVoidType())
+          .forEach(astTypes::add);
+    }
+    typeNames = astTypes.stream().map(Type::asString).collect(Collectors.toList());
+    resolvedTypes =
+        astTypes.stream()
+            .map(ExtractionBenchmark::tryToResolve)
+            .flatMap(Optional::stream)
+            .collect(Collectors.toList());
+  }
+
+  @Setup(Level.Invocation)
+  public void clearDocument() {
+    BeanContext.get(DocumentManager.class).getDocument().clear();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    javaSourceRegister.close();
+    SyntheticSources.delete(sourcePath);
+  }
+
+  @Benchmark
+  public Optional<String> findDefaultPackageName(PackageNameState packageNameState)
+      throws IOException {
+    return packageNameState.javaSourceRegister.findDefaultPackageName();
+  }
+
+  @Benchmark
+  public void registerInvoke(InvokeState invokeState) {
+    invokeState.javaSourceRegister.registerInvoke(invokeState.compilationUnits);
+  }
+
+  @Benchmark
+  public void getInvokeFieldTypeNameFromType(Blackhole blackhole) {
+    for (Type type : astTypes) {
+      blackhole.consume(javaSourceRegister.getInvokeFieldTypeName(type));
+    }
+  }
+
+  @Benchmark
+  public void getInvokeFieldTypeNameFromString(Blackhole blackhole) {
+    for (String typeName : typeNames) {
+      blackhole.consume(javaSourceRegister.getInvokeFieldTypeName(typeName));
+    }
+  }
+
+  @Benchmark
+  public void getInvokeFieldTypeNameFromResolvedType(Blackhole blackhole) {
+    for (ResolvedType resolvedType : resolvedTypes) {
+      blackhole.consume(javaSourceRegister.getInvokeFieldTypeName(resolvedType));
+    }
+  }
+
+  private static Optional<ResolvedType> tryToResolve(Type type) {
+    try {
+      return Optional.of(type.resolve());
+    } catch (RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class PackageNameState {
+
+    private JavaSourceRegister javaSourceRegister;
+
+    @Setup(Level.Invocation)
+    public void setup(ExtractionBenchmark benchmark) throws IOException {
+      javaSourceRegister = new JavaSourceRegister(benchmark.sourcePath, "", benchmark.classpath);
+      javaSourceRegister.getSourceRoot();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+      javaSourceRegister.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class InvokeState {
+
+    private JavaSourceRegister javaSourceRegister;
+    private List<CompilationUnit> compilationUnits;
+
+    @Setup(Level.Invocation)
+    public void setup(ExtractionBenchmark benchmark) throws IOException {
+      javaSourceRegister = new JavaSourceRegister(benchmark.sourcePath, "", benchmark.classpath);
+      compilationUnits = javaSourceRegister.buildCompilationUnits();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+      javaSourceRegister.close();
+    }
+  }
+}
@@ -2,34 +2,401 @@ package io.graphoenix.gradle;
 
 import io.graphoenix.core.config.GraphQLConfig;
 import io.graphoenix.core.config.PackageConfig;
+import io.graphoenix.gradle.handler.GeneratedOutput;
+import io.graphoenix.gradle.service.TypeSolverCacheService;
+import io.graphoenix.gradle.task.BaseGenerateTask;
+import io.graphoenix.gradle.task.BaseSourceTask;
+import io.graphoenix.gradle.task.BaseTask;
+import io.graphoenix.gradle.task.BuildGraphQLDocumentTask;
 import io.graphoenix.gradle.task.GenerateGraphQLSourceTask;
 import io.graphoenix.gradle.task.GenerateProtobufV3Task;
+import io.graphoenix.gradle.task.GraphoenixWatchTask;
 import org.eclipse.microprofile.config.inject.ConfigProperties;
+import org.gradle.api.GradleException;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.artifacts.ArtifactView;
+import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.artifacts.ConfigurationContainer;
+import org.gradle.api.artifacts.component.ProjectComponentIdentifier;
+import org.gradle.api.artifacts.type.ArtifactTypeDefinition;
+import org.gradle.api.attributes.Attribute;
+import org.gradle.api.attributes.Usage;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.FileTreeElement;
+import org.gradle.api.plugins.ExtensionAware;
+import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.plugins.JavaPluginConvention;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.specs.Spec;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.TaskProvider;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class GraphoenixPlugin implements Plugin<Project> {
   private static final String GROUP_NAME = "graphoenix";
+  private static final String CLASS_INDEX_PATH = "caches/graphoenix/class-index";
+  private static final String DOCUMENT_PATH = "graphoenix/document";
+  private static final String REPORT_PATH = "reports/graphoenix";
+  private static final String DOCUMENT_USAGE = "graphoenix-document";
+  private static final String DOCUMENT_FORMAT = "snapshot";
+  private static final String DOCUMENT_ELEMENTS_CONFIGURATION_NAME = "graphqlDocumentElements";
+  private static final String DOCUMENT_CONFIGURATION_NAME = "graphqlDocument";
+  private static final String SCALARS_EXTENSION_NAME = "scalars";
+  private static final String WATCH_TASK_NAME = "graphoenixWatch";
+  private static final String SHARED_TYPE_SOLVER_PROPERTY = "graphoenix.sharedTypeSolver";
+  private static final String TYPE_SOLVER_CACHE_SERVICE_NAME = "graphoenixTypeSolverCache";
+  private static final int TYPE_SOLVER_CACHE_MAX_ENTRIES = 16;
+
+  public static final Attribute<String> DOCUMENT_ATTRIBUTE =
+      Attribute.of("io.graphoenix.document", String.class);
 
   @Override
   public void apply(Project project) {
-    project
-        .getExtensions()
-        .create(
-            GraphQLConfig.class.getAnnotation(ConfigProperties.class).prefix(),
-            GraphQLConfig.class);
+    GraphQLConfig graphQLConfig =
+        project
+            .getExtensions()
+            .create(
+                GraphQLConfig.class.getAnnotation(ConfigProperties.class).prefix(),
+                GraphQLConfig.class);
     project
         .getExtensions()
         .create(
             PackageConfig.class.getAnnotation(ConfigProperties.class).prefix(),
             PackageConfig.class);
+    ScalarsExtension scalars =
+        ((ExtensionAware) graphQLConfig)
+            .getExtensions()
+            .create(SCALARS_EXTENSION_NAME, ScalarsExtension.class);
+    project
+        .getTasks()
+        .withType(BaseTask.class)
+        .configureEach(
+            task -> {
+              task.getProcessIsolation().convention(false);
+              task.getCacheDirectory()
+                  .convention(
+                      project.getLayout().getBuildDirectory().dir("graphoenix/" + task.getName()));
+              task.getReportFile()
+                  .convention(
+                      project
+                          .getLayout()
+                          .getBuildDirectory()
+                          .file(REPORT_PATH + "/" + task.getName() + ".json"));
+            });
+
     project
         .getTasks()
-        .create("generateGraphQLSource", GenerateGraphQLSourceTask.class)
-        .setGroup(GROUP_NAME);
+        .withType(GenerateGraphQLSourceTask.class)
+        .configureEach(
+            task ->
+                task.getEmitParallelism().convention(Runtime.getRuntime().availableProcessors()));
+
+    boolean sharedTypeSolver =
+        project
+            .getProviders()
+            .gradleProperty(SHARED_TYPE_SOLVER_PROPERTY)
+            .forUseAtConfigurationTime()
+            .map(Boolean::parseBoolean)
+            .getOrElse(false);
+    Provider<TypeSolverCacheService> typeSolverCacheService =
+        project
+            .getGradle()
+            .getSharedServices()
+            .registerIfAbsent(
+                TYPE_SOLVER_CACHE_SERVICE_NAME,
+                TypeSolverCacheService.class,
+                spec -> {
+                  spec.getMaxParallelUsages().set(1);
+                  spec.getParameters().getMaxEntries().set(TYPE_SOLVER_CACHE_MAX_ENTRIES);
+                });
+    if (sharedTypeSolver) {
+      project
+          .getTasks()
+          .withType(BuildGraphQLDocumentTask.class)
+          .configureEach(task -> useTypeSolverCache(task, typeSolverCacheService));
+    }
+
+    project
+        .getGradle()
+        .getTaskGraph()
+        .whenReady(
+            taskGraph -> {
+              List<Task> tasks =
+                  taskGraph.getAllTasks().stream()
+                      .filter(task -> task.getProject() == project)
+                      .collect(Collectors.toList());
+              if (tasks.stream().noneMatch(task -> task instanceof GraphoenixWatchTask)) {
+                return;
+              }
+              if (!project.getGradle().getStartParameter().isContinuous()) {
+                throw new GradleException(
+                    WATCH_TASK_NAME + " only regenerates on change in continuous build,"
+                        + " run it with --continuous");
+              }
+              tasks.stream()
+                  .filter(task -> task instanceof BuildGraphQLDocumentTask)
+                  .forEach(
+                      task ->
+                          useTypeSolverCache(
+                              (BuildGraphQLDocumentTask) task, typeSolverCacheService));
+            });
+
     project
         .getTasks()
-        .create("generateProtobufV3", GenerateProtobufV3Task.class)
-        .setGroup(GROUP_NAME);
+        .withType(BaseSourceTask.class)
+        .configureEach(
+            task -> {
+              task.getParseParallelism().convention(1);
+              task.getScalars().convention(scalars.getMappings());
+              task.getClassIndexDirectory()
+                  .convention(
+                      project
+                          .getLayout()
+                          .dir(
+                              project.provider(
+                                  () ->
+                                      new File(
+                                          project.getGradle().getGradleUserHomeDir(),
+                                          CLASS_INDEX_PATH))));
+            });
+
+    project
+        .getPlugins()
+        .withType(
+            JavaPlugin.class,
+            javaPlugin ->
+                project
+                    .getConvention()
+                    .getPlugin(JavaPluginConvention.class)
+                    .getSourceSets()
+                    .all(sourceSet -> configureSourceSet(project, sourceSet)));
+  }
+
+  private static void configureSourceSet(Project project, SourceSet sourceSet) {
+    Provider<File> javaDirectory = project.provider(() -> getJavaDirectory(sourceSet));
+    FileCollection javaDirectories = project.files(javaDirectory);
+
+    TaskProvider<BuildGraphQLDocumentTask> buildGraphQLDocumentTask =
+        project
+            .getTasks()
+            .register(
+                sourceSet.getTaskName("build", "GraphQLDocument"),
+                BuildGraphQLDocumentTask.class,
+                task -> {
+                  task.setGroup(GROUP_NAME);
+                  task.getResourceDirectories()
+                      .from(sourceSet.getResources().getSourceDirectories());
+                  task.getOutputDirectory()
+                      .convention(
+                          project
+                              .getLayout()
+                              .getBuildDirectory()
+                              .dir(DOCUMENT_PATH + "/" + sourceSet.getName()));
+                  configureSources(project, sourceSet, javaDirectories, task);
+                });
+    configureDocumentVariants(project, sourceSet, buildGraphQLDocumentTask);
+
+    TaskProvider<GenerateGraphQLSourceTask> generateGraphQLSourceTask =
+        project
+            .getTasks()
+            .register(
+                sourceSet.getTaskName("generate", "GraphQLSource"),
+                GenerateGraphQLSourceTask.class,
+                task -> {
+                  configureGenerateTask(sourceSet, buildGraphQLDocumentTask, task);
+                  task.getOutputDirectory().fileProvider(javaDirectory);
+                });
+    project
+        .getTasks()
+        .register(
+            sourceSet.getTaskName("generate", "ProtobufV3"),
+            GenerateProtobufV3Task.class,
+            task -> {
+              configureGenerateTask(sourceSet, buildGraphQLDocumentTask, task);
+              task.getOutputDirectory()
+                  .fileProvider(
+                      javaDirectory.map(
+                          file -> file.toPath().getParent().resolve("proto").toFile()));
+            });
+    project
+        .getTasks()
+        .register(
+            sourceSet.getTaskName(null, WATCH_TASK_NAME),
+            GraphoenixWatchTask.class,
+            task -> {
+              task.setGroup(GROUP_NAME);
+              task.dependsOn(generateGraphQLSourceTask);
+            });
+  }
+
+  private static void useTypeSolverCache(
+      BuildGraphQLDocumentTask task, Provider<TypeSolverCacheService> typeSolverCacheService) {
+    task.getTypeSolverCacheService().convention(typeSolverCacheService);
+    task.usesService(typeSolverCacheService);
+  }
+
+  private static File getJavaDirectory(SourceSet sourceSet) {
+    Iterator<File> srcDirs = sourceSet.getJava().getSrcDirs().iterator();
+    if (!srcDirs.hasNext()) {
+      throw new GradleException(
+          "source set " + sourceSet.getName() + " has no java source directory to generate into");
+    }
+    return srcDirs.next();
+  }
+
+  private static void configureGenerateTask(
+      SourceSet sourceSet,
+      TaskProvider<BuildGraphQLDocumentTask> buildGraphQLDocumentTask,
+      BaseGenerateTask task) {
+    task.setGroup(GROUP_NAME);
+    task.getResourceDirectories().from(sourceSet.getResources().getSourceDirectories());
+    task.getDocumentDirectory()
+        .convention(buildGraphQLDocumentTask.flatMap(BaseTask::getOutputDirectory));
+  }
+
+  private static void configureSources(
+      Project project,
+      SourceSet sourceSet,
+      FileCollection javaDirectories,
+      BaseSourceTask task) {
+    Configuration compileClasspath =
+        project.getConfigurations().getByName(sourceSet.getCompileClasspathConfigurationName());
+    task.getSourceDirectories().from(javaDirectories);
+    Provider<File> manifestFile =
+        project.provider(
+            () ->
+                project
+                    .getTasks()
+                    .named(sourceSet.getTaskName("generate", "GraphQLSource"), BaseTask.class)
+                    .get()
+                    .getCacheDirectory()
+                    .file(GeneratedOutput.MANIFEST_FILE_NAME)
+                    .get()
+                    .getAsFile());
+    task.getSourceFiles()
+        .from(
+            javaDirectories
+                .getAsFileTree()
+                .matching(filter -> filter.exclude(new GeneratedFileSpec(manifestFile))));
+    task.getClasspath().from(compileClasspath);
+    task.getClassesDirectories().from(sourceSet.getOutput().getClassesDirs());
+    task.getDocumentProjectClasspath()
+        .from(
+            project.provider(
+                () -> {
+                  Set<String> documentProjects = getDocumentProjects(project, sourceSet);
+                  return compileClasspath
+                      .getIncoming()
+                      .artifactView(
+                          view ->
+                              view.componentFilter(
+                                  id ->
+                                      id instanceof ProjectComponentIdentifier
+                                          && documentProjects.contains(
+                                              getProjectKey((ProjectComponentIdentifier) id))))
+                      .getFiles();
+                }));
+  }
+
+  private static void configureDocumentVariants(
+      Project project,
+      SourceSet sourceSet,
+      TaskProvider<BuildGraphQLDocumentTask> buildGraphQLDocumentTask) {
+    ConfigurationContainer configurations = project.getConfigurations();
+    Usage usage = project.getObjects().named(Usage.class, DOCUMENT_USAGE);
+    if (SourceSet.MAIN_SOURCE_SET_NAME.equals(sourceSet.getName())) {
+      configurations.create(
+          DOCUMENT_ELEMENTS_CONFIGURATION_NAME,
+          configuration -> {
+            configuration.setCanBeConsumed(true);
+            configuration.setCanBeResolved(false);
+            configuration.setVisible(false);
+            configuration.getAttributes().attribute(Usage.USAGE_ATTRIBUTE, usage);
+            configuration.getAttributes().attribute(DOCUMENT_ATTRIBUTE, DOCUMENT_FORMAT);
+            configuration
+                .getOutgoing()
+                .artifact(
+                    buildGraphQLDocumentTask.flatMap(BaseTask::getOutputDirectory),
+                    artifact -> artifact.setType(ArtifactTypeDefinition.DIRECTORY_TYPE));
+          });
+    }
+    configurations.create(
+        sourceSet.getTaskName(null, DOCUMENT_CONFIGURATION_NAME),
+        configuration -> {
+          configuration.setCanBeConsumed(false);
+          configuration.setCanBeResolved(true);
+          configuration.setVisible(false);
+          configuration.extendsFrom(
+              configurations.getByName(sourceSet.getImplementationConfigurationName()),
+              configurations.getByName(sourceSet.getCompileOnlyConfigurationName()));
+          configuration.getAttributes().attribute(Usage.USAGE_ATTRIBUTE, usage);
+          configuration.getAttributes().attribute(DOCUMENT_ATTRIBUTE, DOCUMENT_FORMAT);
+        });
+    buildGraphQLDocumentTask.configure(
+        task -> task.getUpstreamDocuments().from(getUpstreamDocuments(project, sourceSet)));
+  }
+
+  private static FileCollection getUpstreamDocuments(Project project, SourceSet sourceSet) {
+    return getUpstreamDocumentView(project, sourceSet).getFiles();
+  }
+
+  private static Set<String> getDocumentProjects(Project project, SourceSet sourceSet) {
+    return getUpstreamDocumentView(project, sourceSet).getArtifacts().getArtifacts().stream()
+        .map(artifact -> artifact.getId().getComponentIdentifier())
+        .filter(id -> id instanceof ProjectComponentIdentifier)
+        .map(id -> getProjectKey((ProjectComponentIdentifier) id))
+        .collect(Collectors.toSet());
+  }
+
+  private static ArtifactView getUpstreamDocumentView(Project project, SourceSet sourceSet) {
+    return project
+        .getConfigurations()
+        .getByName(sourceSet.getTaskName(null, DOCUMENT_CONFIGURATION_NAME))
+        .getIncoming()
+        .artifactView(view -> view.lenient(true));
+  }
+
+  private static String getProjectKey(ProjectComponentIdentifier id) {
+    return id.getBuild().getName() + ":" + id.getProjectPath();
+  }
+
+  private static class GeneratedFileSpec implements Spec<FileTreeElement> {
+
+    private final Provider<File> manifestFile;
+    private long lastModified = -1;
+    private Set<String> generatedFiles = Set.of();
+
+    private GeneratedFileSpec(Provider<File> manifestFile) {
+      this.manifestFile = manifestFile;
+    }
+
+    @Override
+    public boolean isSatisfiedBy(FileTreeElement element) {
+      return !element.isDirectory()
+          && getGeneratedFiles().contains(element.getRelativePath().getPathString());
+    }
+
+    private synchronized Set<String> getGeneratedFiles() {
+      File file = manifestFile.get();
+      if (file.lastModified() != lastModified) {
+        try {
+          generatedFiles = new HashSet<>(GeneratedOutput.readManifest(file.toPath()));
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        lastModified = file.lastModified();
+      }
+      return generatedFiles;
+    }
   }
 }
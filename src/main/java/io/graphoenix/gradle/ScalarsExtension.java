@@ -0,0 +1,12 @@
+package io.graphoenix.gradle;
+
+import org.gradle.api.provider.MapProperty;
+
+public abstract class ScalarsExtension {
+
+  public abstract MapProperty<String, String> getMappings();
+
+  public void map(String javaType, String scalar) {
+    getMappings().put(javaType, scalar);
+  }
+}
@@ -0,0 +1,137 @@
+package io.graphoenix.gradle.handler;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import jakarta.annotation.Generated;
+import org.eclipse.microprofile.graphql.Enum;
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Input;
+import org.eclipse.microprofile.graphql.Interface;
+import org.eclipse.microprofile.graphql.Mutation;
+import org.eclipse.microprofile.graphql.Query;
+import org.eclipse.microprofile.graphql.Source;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class AnnotationIndex {
+
+  private final List<ResolvedReferenceTypeDeclaration> objectTypes = new ArrayList<>();
+  private final List<ResolvedReferenceTypeDeclaration> interfaceTypes = new ArrayList<>();
+  private final List<ResolvedReferenceTypeDeclaration> inputObjectTypes = new ArrayList<>();
+  private final List<ResolvedReferenceTypeDeclaration> enumTypes = new ArrayList<>();
+  private final List<InvokeMethod> sourceMethods = new ArrayList<>();
+  private final List<InvokeMethod> queryMethods = new ArrayList<>();
+  private final List<InvokeMethod> mutationMethods = new ArrayList<>();
+
+  public static AnnotationIndex build(CompilationUnit compilationUnit) {
+    AnnotationIndex annotationIndex = new AnnotationIndex();
+    for (TypeDeclaration<?> typeDeclaration : compilationUnit.getTypes()) {
+      annotationIndex.addType(typeDeclaration.resolve());
+      if (typeDeclaration.isAnnotationPresent(GraphQLApi.class)) {
+        annotationIndex.addApi(compilationUnit, typeDeclaration);
+      }
+    }
+    return annotationIndex;
+  }
+
+  private void addType(ResolvedReferenceTypeDeclaration resolvedReferenceTypeDeclaration) {
+    if (resolvedReferenceTypeDeclaration.hasAnnotation(Generated.class.getCanonicalName())) {
+      return;
+    }
+    if (resolvedReferenceTypeDeclaration.hasAnnotation(
+        org.eclipse.microprofile.graphql.Type.class.getCanonicalName())) {
+      objectTypes.add(resolvedReferenceTypeDeclaration);
+    }
+    if (resolvedReferenceTypeDeclaration.hasAnnotation(Interface.class.getCanonicalName())) {
+      interfaceTypes.add(resolvedReferenceTypeDeclaration);
+    }
+    if (resolvedReferenceTypeDeclaration.hasAnnotation(Input.class.getCanonicalName())) {
+      inputObjectTypes.add(resolvedReferenceTypeDeclaration);
+    }
+    if (resolvedReferenceTypeDeclaration.hasAnnotation(Enum.class.getCanonicalName())) {
+      enumTypes.add(resolvedReferenceTypeDeclaration);
+    }
+  }
+
+  private void addApi(CompilationUnit compilationUnit, TypeDeclaration<?> typeDeclaration) {
+    String className =
+        typeDeclaration
+            .getFullyQualifiedName()
+            .orElseGet(
+                () ->
+                    compilationUnit
+                            .getPackageDeclaration()
+                            .map(packageDeclaration -> packageDeclaration.getNameAsString() + ".")
+                            .orElse("")
+                        + typeDeclaration.getNameAsString());
+    for (MethodDeclaration methodDeclaration : typeDeclaration.getMethods()) {
+      boolean query = methodDeclaration.isAnnotationPresent(Query.class);
+      boolean mutation = methodDeclaration.isAnnotationPresent(Mutation.class);
+      if (query) {
+        queryMethods.add(new InvokeMethod(className, methodDeclaration));
+      }
+      if (mutation) {
+        mutationMethods.add(new InvokeMethod(className, methodDeclaration));
+      }
+      if (!query
+          && !mutation
+          && methodDeclaration.getParameters().stream()
+              .anyMatch(
+                  parameter ->
+                      parameter.isAnnotationPresent(Source.class)
+                          && parameter.getType().isClassOrInterfaceType())) {
+        sourceMethods.add(new InvokeMethod(className, methodDeclaration));
+      }
+    }
+  }
+
+  public List<ResolvedReferenceTypeDeclaration> getObjectTypes() {
+    return objectTypes;
+  }
+
+  public List<ResolvedReferenceTypeDeclaration> getInterfaceTypes() {
+    return interfaceTypes;
+  }
+
+  public List<ResolvedReferenceTypeDeclaration> getInputObjectTypes() {
+    return inputObjectTypes;
+  }
+
+  public List<ResolvedReferenceTypeDeclaration> getEnumTypes() {
+    return enumTypes;
+  }
+
+  public List<InvokeMethod> getSourceMethods() {
+    return sourceMethods;
+  }
+
+  public List<InvokeMethod> getQueryMethods() {
+    return queryMethods;
+  }
+
+  public List<InvokeMethod> getMutationMethods() {
+    return mutationMethods;
+  }
+
+  public static class InvokeMethod {
+
+    private final String className;
+    private final MethodDeclaration methodDeclaration;
+
+    public InvokeMethod(String className, MethodDeclaration methodDeclaration) {
+      this.className = className;
+      this.methodDeclaration = methodDeclaration;
+    }
+
+    public String getClassName() {
+      return className;
+    }
+
+    public MethodDeclaration getMethodDeclaration() {
+      return methodDeclaration;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package io.graphoenix.gradle.handler;
+
+import io.graphoenix.spi.annotation.Application;
+import io.graphoenix.spi.annotation.Package;
+import org.eclipse.microprofile.graphql.Enum;
+import org.eclipse.microprofile.graphql.GraphQLApi;
+import org.eclipse.microprofile.graphql.Input;
+import org.eclipse.microprofile.graphql.Interface;
+import org.eclipse.microprofile.graphql.Type;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+public final class AnnotationScanner {
+
+  private static final byte[][] ANNOTATION_NAMES =
+      Stream.of(
+              Type.class,
+              Interface.class,
+              Input.class,
+              Enum.class,
+              GraphQLApi.class,
+              Package.class,
+              Application.class)
+          .map(annotationClass -> annotationClass.getSimpleName().getBytes(StandardCharsets.UTF_8))
+          .toArray(byte[][]::new);
+
+  private AnnotationScanner() {}
+
+  public static boolean mayContainAnnotations(byte[] bytes) {
+    for (int i = 0; i < bytes.length; i++) {
+      if (bytes[i] == '@' || bytes[i] == '.') {
+        int offset = i + 1;
+        if (bytes[i] == '@') {
+          while (offset < bytes.length && isWhitespace(bytes[offset])) {
+            offset++;
+          }
+        }
+        for (byte[] annotationName : ANNOTATION_NAMES) {
+          if (matches(bytes, offset, annotationName)) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  private static boolean matches(byte[] bytes, int offset, byte[] name) {
+    int end = offset + name.length;
+    if (end > bytes.length) {
+      return false;
+    }
+    for (int i = 0; i < name.length; i++) {
+      if (bytes[offset + i] != name[i]) {
+        return false;
+      }
+    }
+    return end == bytes.length || !isIdentifierPart(bytes[end]);
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\n' || b == '\r' || b == '\f';
+  }
+
+  private static boolean isIdentifierPart(byte b) {
+    return b < 0 || Character.isJavaIdentifierPart((char) b);
+  }
+}
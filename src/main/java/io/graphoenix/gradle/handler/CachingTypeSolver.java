@@ -0,0 +1,96 @@
+package io.graphoenix.gradle.handler;
+
+import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.model.SymbolReference;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+public class CachingTypeSolver implements TypeSolver {
+
+  private final TypeSolver typeSolver;
+  private final Map<String, SymbolReference<ResolvedReferenceTypeDeclaration>> symbolReferences =
+      new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder unsolved = new LongAdder();
+  private final LongAdder solveNanos = new LongAdder();
+  private TypeSolver parent;
+
+  public CachingTypeSolver(TypeSolver typeSolver) {
+    this.typeSolver = typeSolver;
+    typeSolver.setParent(this);
+  }
+
+  @Override
+  public TypeSolver getParent() {
+    return parent;
+  }
+
+  @Override
+  public void setParent(TypeSolver parent) {
+    if (parent == this) {
+      throw new IllegalStateException("The parent of this TypeSolver cannot be itself.");
+    }
+    this.parent = parent;
+  }
+
+  @Override
+  public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+    SymbolReference<ResolvedReferenceTypeDeclaration> symbolReference = symbolReferences.get(name);
+    if (symbolReference != null) {
+      hits.increment();
+      return symbolReference;
+    }
+    long start = System.nanoTime();
+    symbolReference = typeSolver.tryToSolveType(name);
+    solveNanos.add(System.nanoTime() - start);
+    misses.increment();
+    if (!symbolReference.isSolved()) {
+      unsolved.increment();
+    }
+    symbolReferences.put(name, symbolReference);
+    return symbolReference;
+  }
+
+  public int invalidate(
+      Predicate<SymbolReference<ResolvedReferenceTypeDeclaration>> predicate) {
+    int size = symbolReferences.size();
+    symbolReferences.values().removeIf(predicate);
+    return size - symbolReferences.size();
+  }
+
+  public void resetStatistics() {
+    hits.reset();
+    misses.reset();
+    unsolved.reset();
+    solveNanos.reset();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getUnsolved() {
+    return unsolved.sum();
+  }
+
+  public long getSolveMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(solveNanos.sum());
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%d hits, %d misses (%d unsolved), %d ms solving",
+        getHits(), getMisses(), getUnsolved(), getSolveMillis());
+  }
+}
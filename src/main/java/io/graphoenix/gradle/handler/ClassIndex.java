@@ -0,0 +1,223 @@
+package io.graphoenix.gradle.handler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static io.graphoenix.gradle.handler.SourceFragment.readString;
+import static io.graphoenix.gradle.handler.SourceFragment.writeString;
+
+public class ClassIndex {
+
+  private static final Logger logger = LoggerFactory.getLogger(ClassIndex.class);
+
+  private static final int VERSION = 1;
+  private static final String CLASS_SUFFIX = ".class";
+  private static final String VERSIONS_PATH = "META-INF/versions/";
+  private static final String GRAPHQL_PATH = "META-INF/graphql/";
+  private static final String INDEX_SUFFIX = ".idx";
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final String CLEANUP_MARKER_FILE_NAME = "cleanup.marker";
+  private static final Duration MAX_UNUSED_AGE = Duration.ofDays(30);
+  private static final Duration CLEANUP_INTERVAL = Duration.ofDays(1);
+
+  private final Set<String> classNames = new HashSet<>();
+  private final List<File> graphQLPackageFiles = new ArrayList<>();
+
+  public ClassIndex(Path indexDirectory, List<File> classpath) throws IOException {
+    int scanned = 0;
+    for (File file : classpath) {
+      if (file.isDirectory()) {
+        indexDirectory(file.toPath());
+      } else if (file.isFile()) {
+        if (!loadJar(indexDirectory, file)) {
+          indexJar(indexDirectory, file);
+          scanned++;
+        }
+      }
+    }
+    logger.info(
+        "class index: {} classes, {} of {} classpath entries scanned",
+        classNames.size(),
+        scanned,
+        classpath.size());
+    if (indexDirectory != null) {
+      cleanup(indexDirectory);
+    }
+  }
+
+  public boolean contains(String name) {
+    return classNames.contains(name);
+  }
+
+  public List<File> getGraphQLPackageFiles() {
+    return graphQLPackageFiles;
+  }
+
+  private void indexDirectory(Path directory) throws IOException {
+    try (Stream<Path> stream = Files.walk(directory)) {
+      stream
+          .map(path -> directory.relativize(path).toString().replace(File.separatorChar, '/'))
+          .filter(name -> name.endsWith(CLASS_SUFFIX))
+          .map(ClassIndex::toClassName)
+          .forEach(classNames::add);
+    }
+    if (Files.isDirectory(directory.resolve(GRAPHQL_PATH))) {
+      graphQLPackageFiles.add(directory.toFile());
+    }
+  }
+
+  private boolean loadJar(Path indexDirectory, File jar) {
+    if (indexDirectory == null) {
+      return false;
+    }
+    Path indexFile = indexDirectory.resolve(getKey(jar));
+    if (Files.notExists(indexFile)) {
+      return false;
+    }
+    try (DataInputStream dataInputStream =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+      if (dataInputStream.readInt() != VERSION) {
+        return false;
+      }
+      List<String> jarClassNames = new ArrayList<>();
+      boolean graphQLPackage = dataInputStream.readBoolean();
+      int count = dataInputStream.readInt();
+      for (int i = 0; i < count; i++) {
+        jarClassNames.add(readString(dataInputStream));
+      }
+      classNames.addAll(jarClassNames);
+      if (graphQLPackage) {
+        graphQLPackageFiles.add(jar);
+      }
+      Files.setLastModifiedTime(indexFile, FileTime.from(Instant.now()));
+      return true;
+    } catch (IOException e) {
+      logger.warn("discard class index {}: {}", indexFile, e.getMessage());
+      return false;
+    }
+  }
+
+  private void indexJar(Path indexDirectory, File jar) throws IOException {
+    Set<String> jarClassNames = new HashSet<>();
+    boolean graphQLPackage = false;
+    try (ZipFile zipFile = new ZipFile(jar)) {
+      Enumeration<? extends ZipEntry> entries = zipFile.entries();
+      while (entries.hasMoreElements()) {
+        String name = entries.nextElement().getName();
+        if (name.startsWith(GRAPHQL_PATH)) {
+          graphQLPackage = true;
+        } else if (name.startsWith(VERSIONS_PATH)) {
+          name = name.substring(name.indexOf('/', VERSIONS_PATH.length()) + 1);
+        }
+        if (name.endsWith(CLASS_SUFFIX)) {
+          jarClassNames.add(toClassName(name));
+        }
+      }
+    }
+    classNames.addAll(jarClassNames);
+    if (graphQLPackage) {
+      graphQLPackageFiles.add(jar);
+    }
+    if (indexDirectory != null) {
+      writeIndex(indexDirectory.resolve(getKey(jar)), graphQLPackage, jarClassNames);
+    }
+  }
+
+  private void writeIndex(Path indexFile, boolean graphQLPackage, Set<String> jarClassNames)
+      throws IOException {
+    Files.createDirectories(indexFile.getParent());
+    Path tempFile =
+        Files.createTempFile(
+            indexFile.getParent(), indexFile.getFileName().toString(), TEMP_SUFFIX);
+    try (DataOutputStream dataOutputStream =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+      dataOutputStream.writeInt(VERSION);
+      dataOutputStream.writeBoolean(graphQLPackage);
+      dataOutputStream.writeInt(jarClassNames.size());
+      for (String className : jarClassNames.stream().sorted().collect(Collectors.toList())) {
+        writeString(dataOutputStream, className);
+      }
+    }
+    Files.move(
+        tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static void cleanup(Path indexDirectory) {
+    Path markerFile = indexDirectory.resolve(CLEANUP_MARKER_FILE_NAME);
+    Instant now = Instant.now();
+    try {
+      if (Files.exists(markerFile)
+          && Files.getLastModifiedTime(markerFile)
+              .toInstant()
+              .isAfter(now.minus(CLEANUP_INTERVAL))) {
+        return;
+      }
+      Files.createDirectories(indexDirectory);
+      Files.write(markerFile, new byte[0]);
+      Instant expiry = now.minus(MAX_UNUSED_AGE);
+      int deleted = 0;
+      try (Stream<Path> stream = Files.list(indexDirectory)) {
+        for (Path file : stream.filter(ClassIndex::isIndexFile).collect(Collectors.toList())) {
+          if (Files.getLastModifiedTime(file).toInstant().isBefore(expiry)
+              && Files.deleteIfExists(file)) {
+            deleted++;
+          }
+        }
+      }
+      logger.info("class index: {} unused index files deleted", deleted);
+    } catch (IOException e) {
+      logger.warn("class index cleanup in {} failed: {}", indexDirectory, e.getMessage());
+    }
+  }
+
+  private static boolean isIndexFile(Path file) {
+    String fileName = file.getFileName().toString();
+    return fileName.endsWith(INDEX_SUFFIX) || fileName.endsWith(TEMP_SUFFIX);
+  }
+
+  private static String toClassName(String path) {
+    return path.substring(0, path.length() - CLASS_SUFFIX.length())
+        .replace('/', '.')
+        .replace('$', '.');
+  }
+
+  private static String getKey(File jar) {
+    String fingerprint = jar.getAbsolutePath() + ':' + jar.length() + ':' + jar.lastModified();
+    try {
+      return Base64.getUrlEncoder()
+              .withoutPadding()
+              .encodeToString(
+                  MessageDigest.getInstance("SHA-256")
+                      .digest(fingerprint.getBytes(StandardCharsets.UTF_8)))
+          + INDEX_SUFFIX;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package io.graphoenix.gradle.handler;
+
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.model.SymbolReference;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ClassLoaderTypeSolver;
+
+public class ClassIndexTypeSolver extends ClassLoaderTypeSolver {
+
+  private final ClassIndex classIndex;
+
+  public ClassIndexTypeSolver(ClassIndex classIndex, ClassLoader classLoader) {
+    super(classLoader);
+    this.classIndex = classIndex;
+  }
+
+  @Override
+  public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+    if (!classIndex.contains(name)) {
+      return SymbolReference.unsolved();
+    }
+    return super.tryToSolveType(name);
+  }
+}
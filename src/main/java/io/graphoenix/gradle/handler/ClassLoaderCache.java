@@ -0,0 +1,79 @@
+package io.graphoenix.gradle.handler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class ClassLoaderCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(ClassLoaderCache.class);
+
+  private static final Map<String, SharedClassLoader> classLoaders = new HashMap<>();
+  private static final Map<URLClassLoader, String> keys = new IdentityHashMap<>();
+
+  private ClassLoaderCache() {}
+
+  public static synchronized URLClassLoader acquire(List<File> files, ClassLoader parent)
+      throws MalformedURLException {
+    String key = getKey(files, parent);
+    SharedClassLoader sharedClassLoader = classLoaders.get(key);
+    if (sharedClassLoader == null) {
+      URL[] urls = new URL[files.size()];
+      for (int i = 0; i < files.size(); i++) {
+        urls[i] = files.get(i).toURI().toURL();
+      }
+      sharedClassLoader = new SharedClassLoader(new URLClassLoader(urls, parent));
+      classLoaders.put(key, sharedClassLoader);
+      keys.put(sharedClassLoader.classLoader, key);
+    }
+    sharedClassLoader.references++;
+    return sharedClassLoader.classLoader;
+  }
+
+  public static synchronized void release(URLClassLoader classLoader) {
+    String key = keys.get(classLoader);
+    if (key == null) {
+      return;
+    }
+    SharedClassLoader sharedClassLoader = classLoaders.get(key);
+    if (--sharedClassLoader.references > 0) {
+      return;
+    }
+    classLoaders.remove(key);
+    keys.remove(classLoader);
+    try {
+      classLoader.close();
+    } catch (IOException e) {
+      logger.warn("close class loader failed: {}", e.getMessage());
+    }
+  }
+
+  static String getKey(List<File> files, ClassLoader parent) {
+    StringBuilder stringBuilder =
+        new StringBuilder().append(System.identityHashCode(parent)).append('\n');
+    for (File file : files) {
+      ExtractionCache.appendFingerprint(stringBuilder, file);
+    }
+    return ExtractionCache.hash(stringBuilder.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static class SharedClassLoader {
+
+    private final URLClassLoader classLoader;
+    private int references;
+
+    private SharedClassLoader(URLClassLoader classLoader) {
+      this.classLoader = classLoader;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package io.graphoenix.gradle.handler;
+
+import io.graphoenix.core.config.PackageConfig;
+import io.graphoenix.core.handler.DocumentManager;
+import io.nozdormu.config.TypesafeConfig;
+import io.nozdormu.spi.context.BeanContext;
+import org.eclipse.microprofile.config.Config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+public class DocumentSnapshot {
+
+  private static final String SCHEMA_FILE_NAME = "schema.graphql";
+  private static final String PACKAGE_FILE_NAME = "package.txt";
+
+  private final DocumentManager documentManager;
+  private final Config config;
+  private final PackageConfig packageConfig;
+
+  public DocumentSnapshot() {
+    this.documentManager = BeanContext.get(DocumentManager.class);
+    this.config = BeanContext.get(Config.class);
+    this.packageConfig = BeanContext.get(PackageConfig.class);
+  }
+
+  public void write(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    Files.writeString(
+        directory.resolve(SCHEMA_FILE_NAME), documentManager.getDocument().toString());
+    Files.writeString(
+        directory.resolve(PACKAGE_FILE_NAME),
+        Objects.requireNonNullElse(packageConfig.getPackageName(), ""));
+  }
+
+  public void read(Path directory, String resourcePath) throws IOException {
+    ((TypesafeConfig) config).load(resourcePath);
+    String packageName = Files.readString(directory.resolve(PACKAGE_FILE_NAME));
+    if (!packageName.isEmpty()) {
+      packageConfig.setPackageName(packageName);
+    }
+    documentManager.getDocument().clear();
+    merge(directory);
+  }
+
+  public void merge(Path directory) throws IOException {
+    documentManager.getDocument().merge(Files.readString(directory.resolve(SCHEMA_FILE_NAME)));
+  }
+}
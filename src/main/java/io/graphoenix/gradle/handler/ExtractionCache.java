@@ -0,0 +1,243 @@
+package io.graphoenix.gradle.handler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static io.graphoenix.gradle.handler.SourceFragment.readString;
+import static io.graphoenix.gradle.handler.SourceFragment.writeString;
+
+public class ExtractionCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(ExtractionCache.class);
+
+  private static final int VERSION = 3;
+
+  private final Path cacheFile;
+  private final String classpathFingerprint;
+  private final Map<String, Entry> entries = new HashMap<>();
+
+  public ExtractionCache(Path cacheFile, List<File> classpath, Map<String, String> scalars) {
+    this.cacheFile = cacheFile;
+    this.classpathFingerprint = fingerprint(classpath, scalars);
+    load();
+  }
+
+  public Optional<Entry> get(String relativePath, String hash) {
+    return Optional.ofNullable(entries.get(relativePath))
+        .filter(entry -> entry.getHash().equals(hash));
+  }
+
+  public void save(List<Entry> sourceEntries) throws IOException {
+    entries.clear();
+    sourceEntries.forEach(entry -> entries.put(entry.getRelativePath(), entry));
+    if (cacheFile == null) {
+      return;
+    }
+    Files.createDirectories(cacheFile.getParent());
+    try (DataOutputStream dataOutputStream =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(cacheFile)))) {
+      dataOutputStream.writeInt(VERSION);
+      writeString(dataOutputStream, classpathFingerprint);
+      dataOutputStream.writeInt(sourceEntries.size());
+      for (Entry entry : sourceEntries) {
+        writeString(dataOutputStream, entry.getRelativePath());
+        writeString(dataOutputStream, entry.getHash());
+        writeString(dataOutputStream, Objects.requireNonNullElse(entry.getPackageName(), ""));
+        dataOutputStream.writeBoolean(entry.isPackageAnnotated());
+        dataOutputStream.writeBoolean(entry.isApplication());
+        dataOutputStream.writeBoolean(entry.isCandidate());
+        dataOutputStream.writeBoolean(entry.fragment != null);
+        if (entry.fragment != null) {
+          writeString(dataOutputStream, entry.fragmentPackageName);
+          dataOutputStream.writeInt(entry.dependencies.size());
+          for (Map.Entry<String, String> dependency : entry.dependencies.entrySet()) {
+            writeString(dataOutputStream, dependency.getKey());
+            writeString(dataOutputStream, dependency.getValue());
+          }
+          dataOutputStream.writeInt(entry.fragment.length);
+          dataOutputStream.write(entry.fragment);
+        }
+      }
+    }
+  }
+
+  private void load() {
+    if (cacheFile == null || Files.notExists(cacheFile)) {
+      return;
+    }
+    try (DataInputStream dataInputStream =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+      if (dataInputStream.readInt() != VERSION
+          || !readString(dataInputStream).equals(classpathFingerprint)) {
+        return;
+      }
+      int count = dataInputStream.readInt();
+      for (int i = 0; i < count; i++) {
+        String relativePath = readString(dataInputStream);
+        String hash = readString(dataInputStream);
+        String packageName = readString(dataInputStream);
+        Entry entry =
+            new Entry(
+                relativePath,
+                hash,
+                packageName.isEmpty() ? null : packageName,
+                dataInputStream.readBoolean(),
+                dataInputStream.readBoolean(),
+                dataInputStream.readBoolean());
+        if (dataInputStream.readBoolean()) {
+          entry.fragmentPackageName = readString(dataInputStream);
+          int dependencyCount = dataInputStream.readInt();
+          entry.dependencies = new LinkedHashMap<>();
+          for (int j = 0; j < dependencyCount; j++) {
+            entry.dependencies.put(readString(dataInputStream), readString(dataInputStream));
+          }
+          entry.fragment = new byte[dataInputStream.readInt()];
+          dataInputStream.readFully(entry.fragment);
+        }
+        entries.put(relativePath, entry);
+      }
+    } catch (IOException e) {
+      logger.warn("discard extraction cache {}: {}", cacheFile, e.getMessage());
+      entries.clear();
+    }
+  }
+
+  public static String hash(byte[] bytes) {
+    try {
+      return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(bytes));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String fingerprint(List<File> classpath, Map<String, String> scalars) {
+    StringBuilder stringBuilder = new StringBuilder();
+    new TreeMap<>(scalars)
+        .forEach(
+            (name, scalar) ->
+                stringBuilder.append(name).append('=').append(scalar).append('\n'));
+    for (File file : classpath) {
+      appendFingerprint(stringBuilder, file);
+    }
+    return hash(stringBuilder.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  static void appendFingerprint(StringBuilder stringBuilder, File file) {
+    if (!file.isDirectory()) {
+      appendFile(stringBuilder, file);
+      return;
+    }
+    try (Stream<Path> stream = Files.walk(file.toPath())) {
+      stream
+          .filter(Files::isRegularFile)
+          .sorted()
+          .forEach(path -> appendFile(stringBuilder, path.toFile()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void appendFile(StringBuilder stringBuilder, File file) {
+    stringBuilder
+        .append(file.getAbsolutePath())
+        .append(':')
+        .append(file.length())
+        .append(':')
+        .append(file.lastModified())
+        .append('\n');
+  }
+
+  public static class Entry {
+
+    private final String relativePath;
+    private final String hash;
+    private final String packageName;
+    private final boolean packageAnnotated;
+    private final boolean application;
+    private final boolean candidate;
+    private String fragmentPackageName;
+    private Map<String, String> dependencies;
+    private byte[] fragment;
+
+    public Entry(
+        String relativePath,
+        String hash,
+        String packageName,
+        boolean packageAnnotated,
+        boolean application,
+        boolean candidate) {
+      this.relativePath = relativePath;
+      this.hash = hash;
+      this.packageName = packageName;
+      this.packageAnnotated = packageAnnotated;
+      this.application = application;
+      this.candidate = candidate;
+    }
+
+    public String getRelativePath() {
+      return relativePath;
+    }
+
+    public String getHash() {
+      return hash;
+    }
+
+    public String getPackageName() {
+      return packageName;
+    }
+
+    public boolean isPackageAnnotated() {
+      return packageAnnotated;
+    }
+
+    public boolean isApplication() {
+      return application;
+    }
+
+    public boolean isCandidate() {
+      return candidate;
+    }
+
+    public boolean hasFragment(String packageName, Map<String, String> hashes) {
+      return fragment != null
+          && fragmentPackageName.equals(Objects.requireNonNullElse(packageName, ""))
+          && dependencies.entrySet().stream()
+              .allMatch(
+                  dependency -> dependency.getValue().equals(hashes.get(dependency.getKey())));
+    }
+
+    public SourceFragment getFragment() throws IOException {
+      return SourceFragment.fromBytes(fragment);
+    }
+
+    public void setFragment(
+        String packageName, Map<String, String> dependencies, SourceFragment sourceFragment)
+        throws IOException {
+      this.fragmentPackageName = Objects.requireNonNullElse(packageName, "");
+      this.dependencies = dependencies;
+      this.fragment = sourceFragment.toBytes();
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package io.graphoenix.gradle.handler;
+
+import com.squareup.javapoet.JavaFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class GeneratedOutput {
+
+  private static final Logger logger = LoggerFactory.getLogger(GeneratedOutput.class);
+
+  public static final String MANIFEST_FILE_NAME = "outputs.txt";
+
+  private final Path outputDirectory;
+  private final Path manifestFile;
+
+  public GeneratedOutput(Path outputDirectory, Path manifestFile) {
+    this.outputDirectory = outputDirectory;
+    this.manifestFile = manifestFile;
+  }
+
+  public Path createStagingDirectory() throws IOException {
+    return Files.createTempDirectory("graphoenix-output");
+  }
+
+  public void deleteStagingDirectory(Path stagingDirectory) {
+    try {
+      delete(stagingDirectory);
+    } catch (IOException e) {
+      logger.warn("could not delete staging directory {}", stagingDirectory, e);
+    }
+  }
+
+  public void writeJavaFiles(List<JavaFile> javaFiles, Path stagingDirectory, int parallelism)
+      throws IOException {
+    ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+    try {
+      forkJoinPool
+          .submit(
+              () ->
+                  javaFiles.parallelStream()
+                      .forEach(
+                          javaFile -> {
+                            try {
+                              javaFile.writeTo(stagingDirectory);
+                            } catch (IOException e) {
+                              throw new UncheckedIOException(e);
+                            }
+                          }))
+          .get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      throw new IOException(e.getCause());
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  public void sync(Path stagingDirectory) throws IOException {
+    Set<String> generatedFiles = new TreeSet<>();
+    int written = 0;
+    try (Stream<Path> stream = Files.walk(stagingDirectory)) {
+      for (Path stagingFile : stream.filter(Files::isRegularFile).collect(Collectors.toList())) {
+        String relativePath =
+            stagingDirectory.relativize(stagingFile).toString().replace(File.separatorChar, '/');
+        generatedFiles.add(relativePath);
+        Path outputFile = outputDirectory.resolve(relativePath);
+        if (!isSame(stagingFile, outputFile)) {
+          Files.createDirectories(outputFile.getParent());
+          Files.copy(stagingFile, outputFile, StandardCopyOption.REPLACE_EXISTING);
+          written++;
+        }
+      }
+    }
+    if (manifestFile != null && Files.notExists(manifestFile)) {
+      logger.info("no output manifest at {}, stale generated files are kept", manifestFile);
+    }
+    int deleted = 0;
+    for (String relativePath : readManifest(manifestFile)) {
+      if (!generatedFiles.contains(relativePath)
+          && Files.deleteIfExists(outputDirectory.resolve(relativePath))) {
+        deleted++;
+      }
+    }
+    writeManifest(generatedFiles);
+    logger.info(
+        "{} generated files: {} written, {} unchanged, {} stale deleted",
+        generatedFiles.size(),
+        written,
+        generatedFiles.size() - written,
+        deleted);
+  }
+
+  private boolean isSame(Path stagingFile, Path outputFile) throws IOException {
+    return Files.isRegularFile(outputFile)
+        && Files.size(stagingFile) == Files.size(outputFile)
+        && Arrays.equals(Files.readAllBytes(stagingFile), Files.readAllBytes(outputFile));
+  }
+
+  // The manifest is local state under the build directory, so after a clean the files generated
+  // before it are no longer known and are left in place.
+  public static List<String> readManifest(Path manifestFile) throws IOException {
+    if (manifestFile == null || Files.notExists(manifestFile)) {
+      return List.of();
+    }
+    return Files.readAllLines(manifestFile, StandardCharsets.UTF_8);
+  }
+
+  private void writeManifest(Set<String> generatedFiles) throws IOException {
+    if (manifestFile == null) {
+      return;
+    }
+    Files.createDirectories(manifestFile.getParent());
+    Files.write(manifestFile, generatedFiles, StandardCharsets.UTF_8);
+  }
+
+  private static void delete(Path directory) throws IOException {
+    if (Files.notExists(directory)) {
+      return;
+    }
+    try (Stream<Path> stream = Files.walk(directory)) {
+      for (Path path : stream.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+        Files.delete(path);
+      }
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package io.graphoenix.gradle.handler;
+
+import com.github.javaparser.symbolsolver.javaparsermodel.JavaParserFacade;
+import io.graphoenix.core.handler.DocumentManager;
+import io.nozdormu.spi.context.BeanContext;
+
+import java.io.Closeable;
+
+public class GeneratorContext implements Closeable {
+
+  private final DocumentManager documentManager;
+  private final JavaSourceRegister javaSourceRegister;
+
+  public GeneratorContext() {
+    this(null);
+  }
+
+  public GeneratorContext(JavaSourceRegister javaSourceRegister) {
+    this.documentManager = BeanContext.get(DocumentManager.class);
+    this.javaSourceRegister = javaSourceRegister;
+  }
+
+  public JavaSourceRegister getJavaSourceRegister() {
+    return javaSourceRegister;
+  }
+
+  @Override
+  public void close() {
+    documentManager.getDocument().clear();
+    if (javaSourceRegister != null) {
+      javaSourceRegister.close();
+    }
+    JavaParserFacade.clearInstances();
+    BeanContext.setClassLoader(GeneratorContext.class.getClassLoader());
+  }
+}
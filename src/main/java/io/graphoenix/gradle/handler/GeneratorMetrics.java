@@ -0,0 +1,150 @@
+package io.graphoenix.gradle.handler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class GeneratorMetrics {
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  private final String taskName;
+  private final long startNanos = System.nanoTime();
+  private final Map<String, Phase> phases = new LinkedHashMap<>();
+  private final Map<String, Long> counters = new LinkedHashMap<>();
+
+  public GeneratorMetrics() {
+    this.taskName = null;
+  }
+
+  public GeneratorMetrics(String taskName) {
+    this.taskName = taskName;
+  }
+
+  public Timer start(String phaseName) {
+    return new Timer(phases.computeIfAbsent(phaseName, key -> new Phase()));
+  }
+
+  public void count(String counterName, long delta) {
+    counters.merge(counterName, delta, Long::sum);
+  }
+
+  public void increment(String counterName) {
+    count(counterName, 1);
+  }
+
+  public long getCounter(String counterName) {
+    return counters.getOrDefault(counterName, 0L);
+  }
+
+  public void write(Path reportFile) throws IOException {
+    if (reportFile == null) {
+      return;
+    }
+    Files.createDirectories(reportFile.getParent());
+    try (Writer writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+      writer.write("{\n");
+      writer.write("  \"task\": " + quote(taskName) + ",\n");
+      writer.write("  \"timestamp\": " + quote(Instant.now().toString()) + ",\n");
+      writer.write(
+          "  \"wallTimeMillis\": "
+              + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)
+              + ",\n");
+      writer.write("  \"phases\": [");
+      Iterator<Map.Entry<String, Phase>> phaseIterator = phases.entrySet().iterator();
+      while (phaseIterator.hasNext()) {
+        Map.Entry<String, Phase> entry = phaseIterator.next();
+        writer.write(
+            "\n    {\"name\": "
+                + quote(entry.getKey())
+                + ", \"count\": "
+                + entry.getValue().count
+                + ", \"wallTimeMillis\": "
+                + TimeUnit.NANOSECONDS.toMillis(entry.getValue().wallNanos)
+                + ", \"allocatedBytes\": "
+                + entry.getValue().allocatedBytes
+                + "}"
+                + (phaseIterator.hasNext() ? "," : "\n  "));
+      }
+      writer.write("],\n");
+      writer.write("  \"counters\": {");
+      Iterator<Map.Entry<String, Long>> counterIterator = counters.entrySet().iterator();
+      while (counterIterator.hasNext()) {
+        Map.Entry<String, Long> entry = counterIterator.next();
+        writer.write(
+            "\n    "
+                + quote(entry.getKey())
+                + ": "
+                + entry.getValue()
+                + (counterIterator.hasNext() ? "," : "\n  "));
+      }
+      writer.write("}\n");
+      writer.write("}\n");
+    }
+  }
+
+  private static String quote(String value) {
+    if (value == null) {
+      return "null";
+    }
+    StringBuilder stringBuilder = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        stringBuilder.append('\\').append(c);
+      } else if (c < 0x20) {
+        stringBuilder.append(String.format("\\u%04x", (int) c));
+      } else {
+        stringBuilder.append(c);
+      }
+    }
+    return stringBuilder.append('"').toString();
+  }
+
+  private static long allocatedBytes() {
+    if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean threadMXBean =
+          (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+      if (threadMXBean.isThreadAllocatedMemorySupported()
+          && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+    return -1;
+  }
+
+  private static class Phase {
+
+    private long count;
+    private long wallNanos;
+    private long allocatedBytes;
+  }
+
+  public static class Timer implements AutoCloseable {
+
+    private final Phase phase;
+    private final long startNanos = System.nanoTime();
+    private final long startAllocatedBytes = allocatedBytes();
+
+    private Timer(Phase phase) {
+      this.phase = phase;
+    }
+
+    @Override
+    public void close() {
+      phase.count++;
+      phase.wallNanos += System.nanoTime() - startNanos;
+      if (startAllocatedBytes >= 0) {
+        phase.allocatedBytes += allocatedBytes() - startAllocatedBytes;
+      }
+    }
+  }
+}
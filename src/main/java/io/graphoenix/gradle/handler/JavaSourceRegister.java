@@ -0,0 +1,1234 @@
+package io.graphoenix.gradle.handler;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.PackageDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MemberValuePair;
+import com.github.javaparser.ast.nodeTypes.NodeWithName;
+import com.github.javaparser.ast.nodeTypes.NodeWithType;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.resolution.UnsolvedSymbolException;
+import com.github.javaparser.resolution.declarations.ResolvedEnumConstantDeclaration;
+import com.github.javaparser.resolution.declarations.ResolvedMethodDeclaration;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.types.ResolvedPrimitiveType;
+import com.github.javaparser.resolution.types.ResolvedReferenceType;
+import com.github.javaparser.resolution.types.ResolvedType;
+import com.github.javaparser.symbolsolver.JavaSymbolSolver;
+import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserClassDeclaration;
+import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserEnumDeclaration;
+import com.github.javaparser.symbolsolver.javaparsermodel.declarations.JavaParserInterfaceDeclaration;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import com.github.javaparser.utils.SourceRoot;
+import com.google.common.base.CaseFormat;
+import com.google.common.base.Strings;
+import io.graphoenix.core.config.PackageConfig;
+import io.graphoenix.core.handler.DocumentManager;
+import io.graphoenix.core.handler.GraphQLConfigRegister;
+import io.graphoenix.spi.annotation.Application;
+import io.graphoenix.spi.annotation.Package;
+import io.graphoenix.spi.error.GraphQLErrors;
+import io.graphoenix.spi.graphql.Document;
+import io.graphoenix.spi.graphql.common.ArrayValueWithVariable;
+import io.graphoenix.spi.graphql.common.Directive;
+import io.graphoenix.spi.graphql.common.ObjectValueWithVariable;
+import io.graphoenix.spi.graphql.type.*;
+import io.nozdormu.config.TypesafeConfig;
+import io.nozdormu.spi.async.Async;
+import io.nozdormu.spi.context.BeanContext;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.graphql.Enum;
+import org.eclipse.microprofile.graphql.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.lang.model.SourceVersion;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URLClassLoader;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.graphoenix.core.utils.TypeNameUtil.getArgumentTypeName0;
+import static io.graphoenix.core.utils.TypeNameUtil.getClassName;
+import static io.graphoenix.spi.constant.Hammurabi.*;
+import static io.graphoenix.spi.error.GraphQLErrorType.UNSUPPORTED_FIELD_TYPE;
+
+public class JavaSourceRegister implements Closeable {
+
+  private static final Logger logger = LoggerFactory.getLogger(JavaSourceRegister.class);
+
+  private final DocumentManager documentManager;
+  private final Config config;
+  private final PackageConfig packageConfig;
+  private final GraphQLConfigRegister configRegister;
+  private final Path sourcePath;
+  private final String resourcePath;
+  private final List<File> classpath;
+  private final int parallelism;
+  private final Path cacheFile;
+  private ExtractionCache extractionCache;
+  private final Path classIndexDirectory;
+  private ClassIndex classIndex;
+  private URLClassLoader classLoader;
+  private URLClassLoader packageClassLoader;
+  private Set<File> excludedPackageFiles = Set.of();
+  private Set<File> classesDirectories = Set.of();
+  private GeneratorMetrics metrics = new GeneratorMetrics();
+  private Map<String, String> scalars = Map.of();
+  private ScalarRegistry scalarRegistry = new ScalarRegistry();
+  private boolean sharedTypeSolver;
+  private SourceRoot sourceRoot;
+  private final Set<Path> parsedFiles = new HashSet<>();
+  private CachingTypeSolver cachingTypeSolver;
+  private List<Path> sourceFiles;
+  private List<ExtractionCache.Entry> cacheEntries;
+  private final Map<String, String> typeNames = new HashMap<>();
+  private Set<Path> dependencies = new HashSet<>();
+  private boolean resolvable = true;
+
+  public JavaSourceRegister(Path sourcePath, String resourcePath, List<File> classpath) {
+    this(sourcePath, resourcePath, classpath, 1);
+  }
+
+  public JavaSourceRegister(
+      Path sourcePath, String resourcePath, List<File> classpath, int parallelism) {
+    this(sourcePath, resourcePath, classpath, parallelism, null, null);
+  }
+
+  public JavaSourceRegister(
+      Path sourcePath,
+      String resourcePath,
+      List<File> classpath,
+      int parallelism,
+      Path cacheFile,
+      Path classIndexDirectory) {
+    this.documentManager = BeanContext.get(DocumentManager.class);
+    this.config = BeanContext.get(Config.class);
+    this.packageConfig = BeanContext.get(PackageConfig.class);
+    this.configRegister = BeanContext.get(GraphQLConfigRegister.class);
+    this.sourcePath = sourcePath;
+    this.resourcePath = resourcePath;
+    this.classpath =
+        classpath.stream()
+            .map(File::getAbsoluteFile)
+            .distinct()
+            .collect(Collectors.toList());
+    this.parallelism = parallelism;
+    this.cacheFile = cacheFile;
+    this.classIndexDirectory = classIndexDirectory;
+  }
+
+  public void init() throws IOException {
+    ClassLoader classLoader = createClassLoader();
+    BeanContext.setClassLoader(classLoader);
+    try (GeneratorMetrics.Timer timer = metrics.start("loadConfig")) {
+      ((TypesafeConfig) config).load(resourcePath);
+    }
+    try (GeneratorMetrics.Timer timer = metrics.start("findDefaultPackageName")) {
+      findDefaultPackageName().ifPresent(packageConfig::setPackageName);
+    }
+    documentManager.getDocument().clear();
+    try (GeneratorMetrics.Timer timer = metrics.start("registerConfig")) {
+      configRegister.registerConfig(resourcePath);
+    }
+  }
+
+  public ClassLoader createClassLoader() throws MalformedURLException {
+    if (classLoader == null) {
+      classLoader = ClassLoaderCache.acquire(classpath, getClass().getClassLoader());
+    }
+    return classLoader;
+  }
+
+  public ClassLoader createPackageClassLoader() throws IOException {
+    if (packageClassLoader == null) {
+      packageClassLoader =
+          ClassLoaderCache.acquire(
+              getClassIndex().getGraphQLPackageFiles().stream()
+                  .filter(file -> !excludedPackageFiles.contains(file))
+                  .collect(Collectors.toList()),
+              getClass().getClassLoader());
+    }
+    return packageClassLoader;
+  }
+
+  public GeneratorMetrics getMetrics() {
+    return metrics;
+  }
+
+  public void setMetrics(GeneratorMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  public void setScalars(Map<String, String> scalars) {
+    this.scalars = scalars;
+    this.scalarRegistry = new ScalarRegistry(scalars);
+    this.extractionCache = null;
+  }
+
+  public void setSharedTypeSolver(boolean sharedTypeSolver) {
+    this.sharedTypeSolver = sharedTypeSolver;
+  }
+
+  public void setClassesDirectories(Collection<File> classesDirectories) {
+    this.classesDirectories =
+        classesDirectories.stream().map(File::getAbsoluteFile).collect(Collectors.toSet());
+    this.extractionCache = null;
+  }
+
+  public void setExcludedPackageFiles(Collection<File> excludedPackageFiles) {
+    this.excludedPackageFiles =
+        excludedPackageFiles.stream().map(File::getAbsoluteFile).collect(Collectors.toSet());
+  }
+
+  @Override
+  public void close() {
+    if (classLoader != null) {
+      ClassLoaderCache.release(classLoader);
+      classLoader = null;
+    }
+    if (packageClassLoader != null) {
+      ClassLoaderCache.release(packageClassLoader);
+      packageClassLoader = null;
+    }
+    sourceRoot = null;
+    parsedFiles.clear();
+    cachingTypeSolver = null;
+    classIndex = null;
+    sourceFiles = null;
+    cacheEntries = null;
+    typeNames.clear();
+    dependencies = new HashSet<>();
+  }
+
+  protected ExtractionCache getExtractionCache() {
+    if (extractionCache == null) {
+      List<File> dependencyClasspath =
+          classpath.stream()
+              .filter(file -> !classesDirectories.contains(file.getAbsoluteFile()))
+              .collect(Collectors.toList());
+      extractionCache = new ExtractionCache(cacheFile, dependencyClasspath, scalars);
+    }
+    return extractionCache;
+  }
+
+  protected ClassIndex getClassIndex() throws IOException {
+    if (classIndex == null) {
+      classIndex = new ClassIndex(classIndexDirectory, classpath);
+    }
+    return classIndex;
+  }
+
+  public List<CompilationUnit> buildCompilationUnits() throws IOException {
+    return parse(getSourceFiles());
+  }
+
+  protected SourceRoot getSourceRoot() throws IOException {
+    if (sourceRoot == null) {
+      if (sharedTypeSolver) {
+        cachingTypeSolver = TypeSolverCache.acquire(sourcePath, classpath, getClassIndex());
+      } else {
+        CombinedTypeSolver combinedTypeSolver = new CombinedTypeSolver();
+        ClassIndexTypeSolver classIndexTypeSolver =
+            new ClassIndexTypeSolver(getClassIndex(), createClassLoader());
+        ReflectionTypeSolver reflectionTypeSolver = new ReflectionTypeSolver();
+        if (Files.exists(sourcePath)) {
+          combinedTypeSolver.add(new JavaParserTypeSolver(sourcePath));
+        }
+        combinedTypeSolver.add(classIndexTypeSolver);
+        combinedTypeSolver.add(reflectionTypeSolver);
+        cachingTypeSolver = new CachingTypeSolver(combinedTypeSolver);
+      }
+      JavaSymbolSolver javaSymbolSolver = new JavaSymbolSolver(cachingTypeSolver);
+      sourceRoot = new SourceRoot(sourcePath);
+      sourceRoot.getParserConfiguration().setSymbolResolver(javaSymbolSolver);
+    }
+    return sourceRoot;
+  }
+
+  protected List<Path> getSourceFiles() throws IOException {
+    if (sourceFiles == null) {
+      if (Files.notExists(sourcePath)) {
+        sourceFiles = List.of();
+      } else {
+        sourceFiles =
+            findJavaFiles(getSourceRoot().getRoot()).stream()
+                .sorted(Comparator.comparing(Path::toString))
+                .collect(Collectors.toList());
+      }
+    }
+    return sourceFiles;
+  }
+
+  protected List<CompilationUnit> parse(List<Path> javaFiles) throws IOException {
+    if (javaFiles.isEmpty()) {
+      return new ArrayList<>();
+    }
+    SourceRoot sourceRoot = getSourceRoot();
+    metrics.count("parsedFiles", javaFiles.stream().filter(parsedFiles::add).count());
+    if (parallelism <= 1) {
+      List<CompilationUnit> compilationUnits = new ArrayList<>();
+      for (Path javaFile : javaFiles) {
+        parse(sourceRoot, javaFile).ifPresent(compilationUnits::add);
+      }
+      return compilationUnits;
+    }
+    ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+    try {
+      return forkJoinPool
+          .submit(
+              () ->
+                  javaFiles.parallelStream()
+                      .map(
+                          javaFile -> {
+                            try {
+                              return parse(sourceRoot, javaFile);
+                            } catch (IOException e) {
+                              throw new UncheckedIOException(e);
+                            }
+                          })
+                      .flatMap(Optional::stream)
+                      .collect(Collectors.toList()))
+          .get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      throw new IOException(e.getCause());
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  private Optional<CompilationUnit> parse(SourceRoot sourceRoot, Path javaFile)
+      throws IOException {
+    Path relativePath = sourceRoot.getRoot().relativize(javaFile);
+    String startPackage =
+        Optional.ofNullable(relativePath.getParent())
+            .map(parent -> parent.toString().replace(File.separatorChar, '.'))
+            .orElse("");
+    return sourceRoot.tryToParse(startPackage, relativePath.getFileName().toString()).getResult();
+  }
+
+  private List<Path> findJavaFiles(Path root) throws IOException {
+    List<Path> javaFiles = new ArrayList<>();
+    Files.walkFileTree(
+        root,
+        new SimpleFileVisitor<>() {
+          @Override
+          public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
+              throws IOException {
+            if (!dir.equals(root)
+                && (Files.isHidden(dir)
+                    || !SourceVersion.isIdentifier(dir.getFileName().toString()))) {
+              return FileVisitResult.SKIP_SUBTREE;
+            }
+            return FileVisitResult.CONTINUE;
+          }
+
+          @Override
+          public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            if (file.toString().endsWith(".java")) {
+              javaFiles.add(file);
+            }
+            return FileVisitResult.CONTINUE;
+          }
+        });
+    return javaFiles;
+  }
+
+  private String getRelativePath(Path javaFile) throws IOException {
+    return getSourceRoot()
+        .getRoot()
+        .relativize(javaFile)
+        .toString()
+        .replace(File.separatorChar, '/');
+  }
+
+  private Path getStoragePath(CompilationUnit compilationUnit) {
+    return compilationUnit
+        .getStorage()
+        .map(CompilationUnit.Storage::getPath)
+        .orElseThrow(() -> new IllegalStateException("compilation unit has no storage"));
+  }
+
+  protected List<ExtractionCache.Entry> getCacheEntries() throws IOException {
+    if (cacheEntries == null) {
+      List<Path> javaFiles = getSourceFiles();
+      Map<Path, String> hashes = new HashMap<>();
+      Map<Path, ExtractionCache.Entry> entries = new HashMap<>();
+      List<Path> changedFiles = new ArrayList<>();
+      metrics.count("sourceFiles", javaFiles.size());
+      try (GeneratorMetrics.Timer timer = metrics.start("scanSources")) {
+        for (Path javaFile : javaFiles) {
+          byte[] bytes = Files.readAllBytes(javaFile);
+          String hash = ExtractionCache.hash(bytes);
+          hashes.put(javaFile, hash);
+          Optional<ExtractionCache.Entry> entry =
+              getExtractionCache().get(getRelativePath(javaFile), hash);
+          if (entry.isPresent()) {
+            entries.put(javaFile, entry.get());
+          } else if (AnnotationScanner.mayContainAnnotations(bytes)) {
+            changedFiles.add(javaFile);
+          } else {
+            entries.put(
+                javaFile,
+                new ExtractionCache.Entry(
+                    getRelativePath(javaFile), hash, null, false, false, false));
+          }
+        }
+      }
+      List<CompilationUnit> compilationUnits;
+      try (GeneratorMetrics.Timer timer = metrics.start("parseSources")) {
+        compilationUnits = parse(changedFiles);
+      }
+      for (CompilationUnit compilationUnit : compilationUnits) {
+        Path javaFile = getStoragePath(compilationUnit);
+        Optional<PackageDeclaration> packageDeclaration = compilationUnit.getPackageDeclaration();
+        entries.put(
+            javaFile,
+            new ExtractionCache.Entry(
+                getRelativePath(javaFile),
+                hashes.get(javaFile),
+                packageDeclaration.map(NodeWithName::getNameAsString).orElse(null),
+                packageDeclaration
+                    .flatMap(declaration -> declaration.getAnnotationByClass(Package.class))
+                    .isPresent(),
+                compilationUnit.getTypes().stream()
+                    .anyMatch(
+                        typeDeclaration ->
+                            typeDeclaration.getAnnotationByClass(Application.class).isPresent()),
+                true));
+      }
+      cacheEntries =
+          javaFiles.stream()
+              .filter(entries::containsKey)
+              .map(entries::get)
+              .collect(Collectors.toList());
+    }
+    return cacheEntries;
+  }
+
+  public Optional<String> findDefaultPackageName() throws IOException {
+    List<ExtractionCache.Entry> entries = getCacheEntries();
+    return entries.stream()
+        .filter(ExtractionCache.Entry::isPackageAnnotated)
+        .findFirst()
+        .map(ExtractionCache.Entry::getPackageName)
+        .or(
+            () ->
+                entries.stream()
+                    .filter(ExtractionCache.Entry::isApplication)
+                    .findFirst()
+                    .map(ExtractionCache.Entry::getPackageName));
+  }
+
+  public void registerInvoke() throws IOException {
+    List<ExtractionCache.Entry> entries = getCacheEntries();
+    Map<String, String> hashes =
+        entries.stream()
+            .collect(
+                Collectors.toMap(
+                    ExtractionCache.Entry::getRelativePath, ExtractionCache.Entry::getHash));
+    String packageName = packageConfig.getPackageName();
+    Map<String, ExtractionCache.Entry> changedEntries = new HashMap<>();
+    Map<String, SourceFragment> sourceFragments = new HashMap<>();
+    List<Path> changedFiles = new ArrayList<>();
+    int skipped = 0;
+    for (ExtractionCache.Entry entry : entries) {
+      if (!entry.isCandidate()) {
+        skipped++;
+        continue;
+      }
+      if (entry.hasFragment(packageName, hashes)) {
+        sourceFragments.put(entry.getRelativePath(), entry.getFragment());
+      } else {
+        changedEntries.put(entry.getRelativePath(), entry);
+        changedFiles.add(getSourceRoot().getRoot().resolve(entry.getRelativePath()));
+      }
+    }
+    List<CompilationUnit> compilationUnits;
+    try (GeneratorMetrics.Timer timer = metrics.start("parseSources")) {
+      compilationUnits = parse(changedFiles);
+    }
+    for (CompilationUnit compilationUnit : compilationUnits) {
+      String relativePath = getRelativePath(getStoragePath(compilationUnit));
+      SourceFragment sourceFragment = extract(compilationUnit);
+      sourceFragments.put(relativePath, sourceFragment);
+      Optional<Map<String, String>> dependencyHashes = getDependencyHashes(hashes);
+      if (dependencyHashes.isPresent()) {
+        changedEntries
+            .get(relativePath)
+            .setFragment(packageName, dependencyHashes.get(), sourceFragment);
+      }
+    }
+    logger.info(
+        "{} source files: {} extracted, {} reused from cache, {} skipped by annotation scan",
+        entries.size(),
+        changedFiles.size(),
+        entries.size() - changedEntries.size() - skipped,
+        skipped);
+    logger.info("type solver: {}", cachingTypeSolver);
+    metrics.count("extractedFiles", changedFiles.size());
+    metrics.count("reusedFiles", entries.size() - changedEntries.size() - skipped);
+    metrics.count("skippedFiles", skipped);
+    metrics.count("typeSolverHits", cachingTypeSolver.getHits());
+    metrics.count("typeSolverMisses", cachingTypeSolver.getMisses());
+    metrics.count("typeSolverUnsolved", cachingTypeSolver.getUnsolved());
+    registerFragments(
+        entries.stream()
+            .map(entry -> sourceFragments.get(entry.getRelativePath()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList()));
+    getExtractionCache().save(entries);
+  }
+
+  public void registerInvoke(List<CompilationUnit> compilations) {
+    registerFragments(compilations.stream().map(this::extract).collect(Collectors.toList()));
+  }
+
+  private Optional<Map<String, String>> getDependencyHashes(Map<String, String> hashes)
+      throws IOException {
+    if (!resolvable) {
+      return Optional.empty();
+    }
+    Map<String, String> dependencyHashes = new TreeMap<>();
+    for (Path dependency : dependencies) {
+      String relativePath = getRelativePath(dependency);
+      String hash = hashes.get(relativePath);
+      if (hash == null) {
+        return Optional.empty();
+      }
+      dependencyHashes.put(relativePath, hash);
+    }
+    return Optional.of(dependencyHashes);
+  }
+
+  protected SourceFragment extract(CompilationUnit compilationUnit) {
+    dependencies = new HashSet<>();
+    resolvable = true;
+    AnnotationIndex annotationIndex = AnnotationIndex.build(compilationUnit);
+    SourceFragment sourceFragment = new SourceFragment();
+    try (GeneratorMetrics.Timer timer = metrics.start("registerInvoke.type")) {
+      annotationIndex.getObjectTypes().stream()
+          .map(this::buildObject)
+          .forEach(sourceFragment.getObjectTypes()::add);
+    }
+    try (GeneratorMetrics.Timer timer = metrics.start("registerInvoke.interface")) {
+      annotationIndex.getInterfaceTypes().stream()
+          .map(this::buildInterface)
+          .forEach(sourceFragment.getInterfaceTypes()::add);
+    }
+    try (GeneratorMetrics.Timer timer = metrics.start("registerInvoke.input")) {
+      annotationIndex.getInputObjectTypes().stream()
+          .map(this::buildInputObject)
+          .forEach(sourceFragment.getInputObjectTypes()::add);
+    }
+    try (GeneratorMetrics.Timer timer = metrics.start("registerInvoke.enum")) {
+      annotationIndex.getEnumTypes().stream()
+          .map(this::buildEnum)
+          .forEach(sourceFragment.getEnumTypes()::add);
+    }
+    try (GeneratorMetrics.Timer timer = metrics.start("registerInvoke.source")) {
+      extractSourceFields(annotationIndex, sourceFragment);
+    }
+    try (GeneratorMetrics.Timer timer = metrics.start("registerInvoke.query")) {
+      annotationIndex.getQueryMethods().stream()
+          .map(
+              invokeMethod ->
+                  buildQueryField(
+                      invokeMethod.getClassName(), invokeMethod.getMethodDeclaration()))
+          .forEach(sourceFragment.getQueryFields()::add);
+    }
+    try (GeneratorMetrics.Timer timer = metrics.start("registerInvoke.mutation")) {
+      annotationIndex.getMutationMethods().stream()
+          .map(
+              invokeMethod ->
+                  buildMutationField(
+                      invokeMethod.getClassName(), invokeMethod.getMethodDeclaration()))
+          .forEach(sourceFragment.getMutationFields()::add);
+    }
+    metrics.count("types", sourceFragment.getObjectTypes().size());
+    metrics.count("interfaces", sourceFragment.getInterfaceTypes().size());
+    metrics.count("inputs", sourceFragment.getInputObjectTypes().size());
+    metrics.count("enums", sourceFragment.getEnumTypes().size());
+    metrics.count("sourceFields", sourceFragment.getSourceFields().size());
+    metrics.count("queryFields", sourceFragment.getQueryFields().size());
+    metrics.count("mutationFields", sourceFragment.getMutationFields().size());
+    return sourceFragment;
+  }
+
+  private void extractSourceFields(
+      AnnotationIndex annotationIndex, SourceFragment sourceFragment) {
+    annotationIndex.getSourceMethods().stream()
+        .map(
+            invokeMethod ->
+                new SourceFragment.SourceField(
+                    invokeMethod.getMethodDeclaration().getParameters().stream()
+                        .filter(parameter -> parameter.isAnnotationPresent(Source.class))
+                        .filter(parameter -> parameter.getType().isClassOrInterfaceType())
+                        .map(parameter -> getTypeName(parameter.getType()))
+                        .collect(Collectors.toList()),
+                    buildSourceObjectField(
+                        invokeMethod.getClassName(), invokeMethod.getMethodDeclaration()),
+                    buildSourceInterfaceField(
+                        invokeMethod.getClassName(), invokeMethod.getMethodDeclaration())))
+        .forEach(sourceFragment.getSourceFields()::add);
+  }
+
+  public void registerFragments(List<SourceFragment> sourceFragments) {
+    try (GeneratorMetrics.Timer timer = metrics.start("registerFragments")) {
+      addFragments(sourceFragments);
+    }
+  }
+
+  private void addFragments(List<SourceFragment> sourceFragments) {
+    Document document = documentManager.getDocument();
+    List<ObjectType> objectTypeList =
+        sourceFragments.stream()
+            .flatMap(sourceFragment -> sourceFragment.getObjectTypes().stream())
+            .filter(objectType -> !document.hasDefinition(objectType.getName()))
+            .collect(Collectors.toList());
+
+    List<InterfaceType> interfaceTypeList =
+        sourceFragments.stream()
+            .flatMap(sourceFragment -> sourceFragment.getInterfaceTypes().stream())
+            .filter(interfaceType -> !document.hasDefinition(interfaceType.getName()))
+            .collect(Collectors.toList());
+
+    List<InputObjectType> inputTypeList =
+        sourceFragments.stream()
+            .flatMap(sourceFragment -> sourceFragment.getInputObjectTypes().stream())
+            .filter(inputObjectType -> !document.hasDefinition(inputObjectType.getName()))
+            .collect(Collectors.toList());
+
+    List<EnumType> enumTypeList =
+        sourceFragments.stream()
+            .flatMap(sourceFragment -> sourceFragment.getEnumTypes().stream())
+            .filter(enumType -> !document.hasDefinition(enumType.getName()))
+            .collect(Collectors.toList());
+
+    objectTypeList.forEach(document::addDefinition);
+    interfaceTypeList.forEach(document::addDefinition);
+    inputTypeList.forEach(document::addDefinition);
+    enumTypeList.forEach(document::addDefinition);
+
+    sourceFragments.stream()
+        .flatMap(sourceFragment -> sourceFragment.getSourceFields().stream())
+        .forEach(
+            sourceField ->
+                sourceField.getSourceTypeNames().stream()
+                    .filter(
+                        typeName ->
+                            document.hasDefinition(typeName)
+                                && document.getDefinition(typeName).isObject())
+                    .findFirst()
+                    .ifPresent(
+                        typeName ->
+                            document
+                                .getObjectTypeOrError(typeName)
+                                .addField(sourceField.getObjectField())));
+
+    sourceFragments.stream()
+        .flatMap(sourceFragment -> sourceFragment.getSourceFields().stream())
+        .forEach(
+            sourceField ->
+                sourceField.getSourceTypeNames().stream()
+                    .filter(
+                        typeName ->
+                            document.hasDefinition(typeName)
+                                && document.getDefinition(typeName).isInterface())
+                    .findFirst()
+                    .ifPresent(
+                        typeName ->
+                            document
+                                .getImplementsObjectType(typeName)
+                                .forEach(
+                                    objectType ->
+                                        objectType.addField(
+                                            SourceFragment.parseField(
+                                                sourceField.getInterfaceField().toString())))));
+
+    sourceFragments.stream()
+        .flatMap(sourceFragment -> sourceFragment.getQueryFields().stream())
+        .forEach(
+            fieldDefinition ->
+                document
+                    .getQueryOperationType()
+                    .orElseGet(
+                        () ->
+                            (ObjectType)
+                                document
+                                    .addDefinition(new ObjectType(TYPE_QUERY_NAME))
+                                    .getDefinition(TYPE_QUERY_NAME))
+                    .addField(buildOperationField(fieldDefinition)));
+
+    sourceFragments.stream()
+        .flatMap(sourceFragment -> sourceFragment.getMutationFields().stream())
+        .forEach(
+            fieldDefinition ->
+                document
+                    .getMutationOperationType()
+                    .orElseGet(
+                        () ->
+                            (ObjectType)
+                                document
+                                    .addDefinition(new ObjectType(TYPE_MUTATION_NAME))
+                                    .getDefinition(TYPE_MUTATION_NAME))
+                    .addField(buildOperationField(fieldDefinition)));
+  }
+
+  private FieldDefinition buildOperationField(FieldDefinition fieldDefinition) {
+    fieldDefinition
+        .getArguments()
+        .forEach(
+            inputValue -> inputValue.setType(getInvokeFieldArgumentTypeName(inputValue.getType())));
+    return fieldDefinition;
+  }
+
+  private FieldDefinition buildSourceObjectField(
+      String className, MethodDeclaration methodDeclaration) {
+    return new FieldDefinition(
+            getSourceNameFromMethodDeclaration(methodDeclaration)
+                .orElseGet(() -> getInvokeFieldName(methodDeclaration.getName().getIdentifier())))
+        .setType(getInvokeFieldTypeName(methodDeclaration.getType()))
+        .addDirective(
+            new Directive(DIRECTIVE_INVOKE_NAME)
+                .addArgument(DIRECTIVE_INVOKE_ARGUMENT_CLASS_NAME_NAME, className)
+                .addArgument(
+                    DIRECTIVE_INVOKE_ARGUMENT_METHOD_NAME_NAME, methodDeclaration.getNameAsString())
+                .addArgument(
+                    DIRECTIVE_INVOKE_ARGUMENT_PARAMETER_NAME,
+                    new ArrayValueWithVariable(buildInvokeParameters(methodDeclaration)))
+                .addArgument("returnClassName", methodDeclaration.getType().toString()))
+        .addDirective(buildPackageDirective());
+  }
+
+  private FieldDefinition buildSourceInterfaceField(
+      String className, MethodDeclaration methodDeclaration) {
+    return new FieldDefinition(
+            getSourceNameFromMethodDeclaration(methodDeclaration)
+                .orElseGet(() -> getInvokeFieldName(methodDeclaration.getName().getIdentifier())))
+        .setType(getInvokeFieldTypeName(methodDeclaration.getType()))
+        .addDirective(
+            buildInvokeDirective(
+                className,
+                methodDeclaration,
+                new ArrayValueWithVariable(buildInvokeParameters(methodDeclaration))))
+        .addDirective(buildPackageDirective());
+  }
+
+  private FieldDefinition buildQueryField(String className, MethodDeclaration methodDeclaration) {
+    return new FieldDefinition(
+            getQueryNameFromMethodDeclaration(methodDeclaration)
+                .orElseGet(() -> getInvokeFieldName(methodDeclaration.getName().getIdentifier())))
+        .setType(getInvokeFieldTypeName(methodDeclaration.getType()))
+        .setArguments(buildArguments(methodDeclaration))
+        .addDirective(
+            buildInvokeDirective(
+                className,
+                methodDeclaration,
+                new ArrayValueWithVariable(buildInvokeParameters(methodDeclaration))))
+        .addDirective(buildPackageDirective());
+  }
+
+  private FieldDefinition buildMutationField(
+      String className, MethodDeclaration methodDeclaration) {
+    return new FieldDefinition(
+            getMutationNameFromMethodDeclaration(methodDeclaration)
+                .orElseGet(() -> getInvokeFieldName(methodDeclaration.getName().getIdentifier())))
+        .setType(getInvokeFieldTypeName(methodDeclaration.getType()))
+        .setArguments(buildArguments(methodDeclaration))
+        .addDirective(
+            buildInvokeDirective(
+                className,
+                methodDeclaration,
+                new ArrayValueWithVariable(
+                    methodDeclaration.getParameters().stream()
+                        .map(
+                            parameter ->
+                                Map.of(
+                                    INPUT_INVOKE_PARAMETER_INPUT_VALUE_NAME_NAME,
+                                    parameter.getNameAsString(),
+                                    INPUT_INVOKE_PARAMETER_INPUT_VALUE_CLASS_NAME_NAME,
+                                    parameter.getType().toString()))
+                        .collect(Collectors.toList()))))
+        .addDirective(buildPackageDirective());
+  }
+
+  private Set<InputValue> buildArguments(MethodDeclaration methodDeclaration) {
+    return methodDeclaration.getParameters().stream()
+        .map(
+            parameter ->
+                new InputValue(parameter.getName().getIdentifier())
+                    .setType(getInvokeFieldTypeName(parameter.getType())))
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  private List<ObjectValueWithVariable> buildInvokeParameters(
+      MethodDeclaration methodDeclaration) {
+    return methodDeclaration.getParameters().stream()
+        .map(
+            parameter ->
+                ObjectValueWithVariable.of(
+                    INPUT_INVOKE_PARAMETER_INPUT_VALUE_NAME_NAME,
+                    parameter.getNameAsString(),
+                    INPUT_INVOKE_PARAMETER_INPUT_VALUE_CLASS_NAME_NAME,
+                    parameter.getType().toString()))
+        .collect(Collectors.toList());
+  }
+
+  private Directive buildInvokeDirective(
+      String className,
+      MethodDeclaration methodDeclaration,
+      ArrayValueWithVariable invokeParameters) {
+    return new Directive(DIRECTIVE_INVOKE_NAME)
+        .addArgument(DIRECTIVE_INVOKE_ARGUMENT_CLASS_NAME_NAME, className)
+        .addArgument(
+            DIRECTIVE_INVOKE_ARGUMENT_METHOD_NAME_NAME,
+            methodDeclaration.isAnnotationPresent(Async.class)
+                ? getAsyncMethodName(methodDeclaration)
+                : methodDeclaration.getNameAsString())
+        .addArgument(DIRECTIVE_INVOKE_ARGUMENT_PARAMETER_NAME, invokeParameters)
+        .addArgument(
+            DIRECTIVE_INVOKE_ARGUMENT_RETURN_CLASS_NAME_NAME,
+            methodDeclaration.getType().toString())
+        .addArgument(
+            DIRECTIVE_INVOKE_ASYNC_NAME, methodDeclaration.isAnnotationPresent(Async.class));
+  }
+
+  private Directive buildPackageDirective() {
+    return new Directive(DIRECTIVE_PACKAGE_NAME)
+        .addArgument(DIRECTIVE_PACKAGE_ARGUMENT_NAME_NAME, packageConfig.getPackageName());
+  }
+
+  private void addDependency(ResolvedReferenceTypeDeclaration resolvedReferenceTypeDeclaration) {
+    resolvedReferenceTypeDeclaration
+        .toAst()
+        .ifPresent(
+            node ->
+                node.findCompilationUnit()
+                    .flatMap(CompilationUnit::getStorage)
+                    .map(CompilationUnit.Storage::getPath)
+                    .ifPresentOrElse(dependencies::add, () -> resolvable = false));
+  }
+
+  protected Optional<ResolvedReferenceTypeDeclaration> resolve(Type type) {
+    if (type.isArrayType()) {
+      return resolve(type.asArrayType().getElementType());
+    } else if (type.isReferenceType()) {
+      try {
+        ResolvedReferenceType resolvedReferenceType = type.resolve().asReferenceType();
+        return resolve(resolvedReferenceType);
+      } catch (UnsolvedSymbolException e) {
+        resolvable = false;
+        metrics.increment("unsolvedSymbols");
+        logger.warn(e.getMessage(), e);
+      }
+    }
+    return Optional.empty();
+  }
+
+  protected String getTypeName(Type type) {
+    try {
+      if (type.isArrayType()) {
+        return getInvokeFieldTypeName(getTypeName(type.asArrayType().getElementType()) + "[]")
+            .getTypeName()
+            .getName();
+      } else if (type.isPrimitiveType()) {
+        return getInvokeFieldTypeName(type.asPrimitiveType()).getTypeName().getName();
+      } else if (type.isClassOrInterfaceType()) {
+        return getInvokeFieldTypeName(type.asClassOrInterfaceType().resolve().asReferenceType())
+            .getTypeName()
+            .getName();
+      }
+    } catch (UnsolvedSymbolException e) {
+      resolvable = false;
+      metrics.increment("unsolvedSymbols");
+      logger.warn(e.getMessage(), e);
+    }
+    return type.asString();
+  }
+
+  protected Optional<ResolvedReferenceTypeDeclaration> resolve(
+      ResolvedReferenceType resolvedReferenceType) {
+    String qualifiedName = resolvedReferenceType.getQualifiedName();
+    if (qualifiedName.equals(Mono.class.getCanonicalName())
+        || qualifiedName.equals(Flux.class.getCanonicalName())
+        || qualifiedName.equals(Collection.class.getCanonicalName())
+        || qualifiedName.equals(List.class.getCanonicalName())
+        || qualifiedName.equals(Set.class.getCanonicalName())) {
+      return resolve(resolvedReferenceType.typeParametersValues().get(0).asReferenceType());
+    } else {
+      return resolvedReferenceType.getTypeDeclaration();
+    }
+  }
+
+  protected ObjectType buildObject(
+      ResolvedReferenceTypeDeclaration resolvedReferenceTypeDeclaration) {
+    return new ObjectType(findTypeName(resolvedReferenceTypeDeclaration))
+        .setFields(
+            resolvedReferenceTypeDeclaration.getDeclaredMethods().stream()
+                .filter(
+                    resolvedMethodDeclaration ->
+                        !resolvedMethodDeclaration.getReturnType().isVoid())
+                .filter(
+                    resolvedMethodDeclaration ->
+                        resolvedMethodDeclaration.getName().startsWith("get"))
+                .map(this::buildField)
+                .collect(Collectors.toSet()))
+        .addDirective(
+            new Directive(DIRECTIVE_CLASS_NAME)
+                .addArgument(
+                    DIRECTIVE_CLASS_ARGUMENT_NAME_NAME,
+                    resolvedReferenceTypeDeclaration.getQualifiedName())
+                .addArgument(DIRECTIVE_CLASS_ARGUMENT_EXISTS_NAME, true))
+        .addDirective(
+            new Directive(DIRECTIVE_PACKAGE_NAME)
+                .addArgument(DIRECTIVE_PACKAGE_ARGUMENT_NAME_NAME, packageConfig.getPackageName()))
+        .addDirective(new Directive(DIRECTIVE_CONTAINER_NAME));
+  }
+
+  protected InterfaceType buildInterface(
+      ResolvedReferenceTypeDeclaration resolvedReferenceTypeDeclaration) {
+    return new InterfaceType(findTypeName(resolvedReferenceTypeDeclaration))
+        .setFields(
+            resolvedReferenceTypeDeclaration.getDeclaredMethods().stream()
+                .filter(
+                    resolvedMethodDeclaration ->
+                        !resolvedMethodDeclaration.getReturnType().isVoid())
+                .filter(
+                    resolvedMethodDeclaration ->
+                        resolvedMethodDeclaration.getName().startsWith("get"))
+                .map(this::buildField)
+                .collect(Collectors.toSet()))
+        .addDirective(
+            new Directive(DIRECTIVE_CLASS_NAME)
+                .addArgument(
+                    DIRECTIVE_CLASS_ARGUMENT_NAME_NAME,
+                    resolvedReferenceTypeDeclaration.getQualifiedName())
+                .addArgument(DIRECTIVE_CLASS_ARGUMENT_EXISTS_NAME, true))
+        .addDirective(
+            new Directive(DIRECTIVE_PACKAGE_NAME)
+                .addArgument(DIRECTIVE_PACKAGE_ARGUMENT_NAME_NAME, packageConfig.getPackageName()))
+        .addDirective(new Directive(DIRECTIVE_CONTAINER_NAME));
+  }
+
+  protected InputObjectType buildInputObject(
+      ResolvedReferenceTypeDeclaration resolvedReferenceTypeDeclaration) {
+    return new InputObjectType(findTypeName(resolvedReferenceTypeDeclaration))
+        .setInputValues(
+            resolvedReferenceTypeDeclaration.getDeclaredMethods().stream()
+                .filter(
+                    resolvedMethodDeclaration ->
+                        !resolvedMethodDeclaration.getReturnType().isVoid())
+                .filter(
+                    resolvedMethodDeclaration ->
+                        resolvedMethodDeclaration.getName().startsWith("get"))
+                .map(this::buildInputValue)
+                .collect(Collectors.toSet()))
+        .addDirective(
+            new Directive(DIRECTIVE_CLASS_NAME)
+                .addArgument(
+                    DIRECTIVE_CLASS_ARGUMENT_NAME_NAME,
+                    resolvedReferenceTypeDeclaration.getQualifiedName())
+                .addArgument(DIRECTIVE_CLASS_ARGUMENT_EXISTS_NAME, true))
+        .addDirective(
+            new Directive(DIRECTIVE_PACKAGE_NAME)
+                .addArgument(DIRECTIVE_PACKAGE_ARGUMENT_NAME_NAME, packageConfig.getPackageName()));
+  }
+
+  protected EnumType buildEnum(ResolvedReferenceTypeDeclaration resolvedReferenceTypeDeclaration) {
+    return new EnumType(findTypeName(resolvedReferenceTypeDeclaration))
+        .setEnumValues(
+            resolvedReferenceTypeDeclaration.asEnum().getEnumConstants().stream()
+                .map(this::buildEnumValue)
+                .collect(Collectors.toSet()))
+        .addDirective(
+            new Directive(DIRECTIVE_CLASS_NAME)
+                .addArgument(
+                    DIRECTIVE_CLASS_ARGUMENT_NAME_NAME,
+                    resolvedReferenceTypeDeclaration.getQualifiedName())
+                .addArgument(DIRECTIVE_CLASS_ARGUMENT_EXISTS_NAME, true))
+        .addDirective(
+            new Directive(DIRECTIVE_PACKAGE_NAME)
+                .addArgument(DIRECTIVE_PACKAGE_ARGUMENT_NAME_NAME, packageConfig.getPackageName()));
+  }
+
+  protected String findTypeName(ResolvedReferenceTypeDeclaration resolvedReferenceTypeDeclaration) {
+    addDependency(resolvedReferenceTypeDeclaration);
+    return typeNames.computeIfAbsent(
+        resolvedReferenceTypeDeclaration.getQualifiedName(),
+        qualifiedName -> buildTypeName(resolvedReferenceTypeDeclaration));
+  }
+
+  private String buildTypeName(ResolvedReferenceTypeDeclaration resolvedReferenceTypeDeclaration) {
+    if (resolvedReferenceTypeDeclaration instanceof JavaParserClassDeclaration) {
+      return ((JavaParserClassDeclaration) resolvedReferenceTypeDeclaration)
+          .getWrappedNode()
+          .getAnnotationByClass(Name.class)
+          .flatMap(
+              annotationExpr ->
+                  findAnnotationValue(annotationExpr)
+                      .map(expression -> expression.asStringLiteralExpr().getValue()))
+          .filter(name -> !Strings.isNullOrEmpty(name))
+          .orElseGet(
+              () ->
+                  ((JavaParserClassDeclaration) resolvedReferenceTypeDeclaration)
+                      .getWrappedNode()
+                      .getAnnotationByClass(org.eclipse.microprofile.graphql.Type.class)
+                      .flatMap(
+                          annotationExpr ->
+                              findAnnotationValue(annotationExpr)
+                                  .map(expression -> expression.asStringLiteralExpr().getValue()))
+                      .filter(name -> !Strings.isNullOrEmpty(name))
+                      .orElse(resolvedReferenceTypeDeclaration.getName()));
+    } else if (resolvedReferenceTypeDeclaration instanceof JavaParserInterfaceDeclaration) {
+      return ((JavaParserInterfaceDeclaration) resolvedReferenceTypeDeclaration)
+          .getWrappedNode()
+          .getAnnotationByClass(Name.class)
+          .flatMap(
+              annotationExpr ->
+                  findAnnotationValue(annotationExpr)
+                      .map(expression -> expression.asStringLiteralExpr().getValue()))
+          .filter(name -> !Strings.isNullOrEmpty(name))
+          .orElseGet(
+              () ->
+                  ((JavaParserInterfaceDeclaration) resolvedReferenceTypeDeclaration)
+                      .getWrappedNode()
+                      .getAnnotationByClass(Interface.class)
+                      .flatMap(
+                          annotationExpr ->
+                              findAnnotationValue(annotationExpr)
+                                  .map(expression -> expression.asStringLiteralExpr().getValue()))
+                      .filter(name -> !Strings.isNullOrEmpty(name))
+                      .orElse(resolvedReferenceTypeDeclaration.getName()));
+    } else if (resolvedReferenceTypeDeclaration instanceof JavaParserEnumDeclaration) {
+      return ((JavaParserEnumDeclaration) resolvedReferenceTypeDeclaration)
+          .getWrappedNode()
+          .getAnnotationByClass(Name.class)
+          .flatMap(
+              annotationExpr ->
+                  findAnnotationValue(annotationExpr)
+                      .map(expression -> expression.asStringLiteralExpr().getValue()))
+          .filter(name -> !Strings.isNullOrEmpty(name))
+          .orElseGet(
+              () ->
+                  ((JavaParserEnumDeclaration) resolvedReferenceTypeDeclaration)
+                      .getWrappedNode()
+                      .getAnnotationByClass(Enum.class)
+                      .flatMap(
+                          annotationExpr ->
+                              findAnnotationValue(annotationExpr)
+                                  .map(expression -> expression.asStringLiteralExpr().getValue()))
+                      .filter(name -> !Strings.isNullOrEmpty(name))
+                      .orElse(resolvedReferenceTypeDeclaration.getName()));
+    }
+    return resolvedReferenceTypeDeclaration.getName();
+  }
+
+  protected Optional<Expression> findAnnotationValue(AnnotationExpr annotationExpr) {
+    if (annotationExpr.isSingleMemberAnnotationExpr()) {
+      return Optional.of(annotationExpr.asSingleMemberAnnotationExpr().getMemberValue());
+    } else if (annotationExpr.isNormalAnnotationExpr()) {
+      return annotationExpr.asNormalAnnotationExpr().getPairs().stream()
+          .filter(memberValuePair -> memberValuePair.getNameAsString().equals("value"))
+          .findFirst()
+          .map(MemberValuePair::getValue);
+    }
+    return Optional.empty();
+  }
+
+  protected FieldDefinition buildField(ResolvedMethodDeclaration resolvedMethodDeclaration) {
+    return new FieldDefinition(getInvokeFieldName(resolvedMethodDeclaration.getName()))
+        .setType(getInvokeFieldTypeName(resolvedMethodDeclaration.getReturnType()));
+  }
+
+  protected InputValue buildInputValue(ResolvedMethodDeclaration resolvedMethodDeclaration) {
+    return new InputValue(getInvokeFieldName(resolvedMethodDeclaration.getName()))
+        .setType(getInvokeFieldTypeName(resolvedMethodDeclaration.getReturnType()));
+  }
+
+  protected EnumValueDefinition buildEnumValue(
+      ResolvedEnumConstantDeclaration resolvedEnumConstantDeclaration) {
+    return new EnumValueDefinition(getInvokeFieldName(resolvedEnumConstantDeclaration.getName()));
+  }
+
+  private Optional<String> getSourceNameFromMethodDeclaration(MethodDeclaration methodDeclaration) {
+    return methodDeclaration.getParameters().stream()
+        .filter(parameter -> parameter.isAnnotationPresent(Source.class))
+        .flatMap(parameter -> parameter.getAnnotationByClass(Source.class).stream())
+        .findFirst()
+        .flatMap(
+            annotationExpr -> {
+              if (annotationExpr.isNormalAnnotationExpr()) {
+                return annotationExpr.asNormalAnnotationExpr().getPairs().stream()
+                    .filter(memberValuePair -> memberValuePair.getNameAsString().equals("name"))
+                    .filter(
+                        memberValuePair ->
+                            Strings.isNullOrEmpty(
+                                memberValuePair.getValue().asStringLiteralExpr().getValue()))
+                    .findFirst();
+              }
+              return Optional.empty();
+            })
+        .map(memberValuePair -> memberValuePair.getValue().asStringLiteralExpr().getValue());
+  }
+
+  private Optional<String> getQueryNameFromMethodDeclaration(MethodDeclaration methodDeclaration) {
+    return methodDeclaration.getAnnotationByClass(Query.class).stream()
+        .findFirst()
+        .flatMap(this::findAnnotationValue)
+        .map(expression -> expression.asStringLiteralExpr().getValue());
+  }
+
+  private Optional<String> getMutationNameFromMethodDeclaration(
+      MethodDeclaration methodDeclaration) {
+    return methodDeclaration.getAnnotationByClass(Mutation.class).stream()
+        .findFirst()
+        .flatMap(this::findAnnotationValue)
+        .map(expression -> expression.asStringLiteralExpr().getValue());
+  }
+
+  private String getInvokeFieldName(String methodName) {
+    if (methodName.startsWith("get")) {
+      return CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, methodName.replaceFirst("get", ""));
+    } else if (methodName.startsWith("set")) {
+      return CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_CAMEL, methodName.replaceFirst("set", ""));
+    } else {
+      return methodName;
+    }
+  }
+
+  io.graphoenix.spi.graphql.type.Type getInvokeFieldTypeName(Type type) {
+    if (type.isArrayType()) {
+      return new ListType(getInvokeFieldTypeName(type.asArrayType().getComponentType()));
+    } else if (type.isPrimitiveType()) {
+      Optional<String> scalar = scalarRegistry.getScalar(type.asPrimitiveType().getType());
+      if (scalar.isPresent()) {
+        return new TypeName(scalar.get());
+      }
+    } else if (type.isReferenceType()) {
+      try {
+        ResolvedReferenceType resolvedReferenceType = type.resolve().asReferenceType();
+        return getInvokeFieldTypeName(resolvedReferenceType);
+      } catch (UnsolvedSymbolException e) {
+        resolvable = false;
+        metrics.increment("unsolvedSymbols");
+        return getInvokeFieldTypeName(type.toString());
+      }
+    }
+    throw new GraphQLErrors(UNSUPPORTED_FIELD_TYPE.bind(type.toString()));
+  }
+
+  io.graphoenix.spi.graphql.type.Type getInvokeFieldTypeName(String typeName) {
+    String className = getClassName(typeName);
+    if (typeName.endsWith("[]")) {
+      return new ListType(getInvokeFieldTypeName(typeName.replace("[]", "")));
+    } else if (className.equals(Mono.class.getSimpleName())) {
+      return getInvokeFieldTypeName(getArgumentTypeName0(typeName));
+    } else if (className.equals(Collection.class.getSimpleName())
+        || className.equals(List.class.getSimpleName())
+        || className.equals(Set.class.getSimpleName())
+        || className.equals(Flux.class.getSimpleName())) {
+      return new ListType(getInvokeFieldTypeName(getArgumentTypeName0(typeName)));
+    } else {
+      return new TypeName(
+          scalarRegistry
+              .getScalarBySimpleName(className)
+              .orElseGet(() -> className.substring(className.lastIndexOf(".") + 1)));
+    }
+  }
+
+  private io.graphoenix.spi.graphql.type.Type getInvokeFieldArgumentTypeName(
+      io.graphoenix.spi.graphql.type.Type type) {
+    if (type.isList()) {
+      return new ListType(getInvokeFieldArgumentTypeName(type.asListType().getType()));
+    } else if (type.isNonNull()) {
+      return new ListType(getInvokeFieldArgumentTypeName(type.asNonNullType().getType()));
+    } else if (documentManager.getDocument().getDefinition(type.asTypeName().getName()).isLeaf()
+        || documentManager
+            .getDocument()
+            .getDefinition(type.asTypeName().getName())
+            .isInputObject()) {
+      return new TypeName(type.asTypeName().getName());
+    } else {
+      return new TypeName(type.asTypeName().getName() + SUFFIX_INPUT);
+    }
+  }
+
+  io.graphoenix.spi.graphql.type.Type getInvokeFieldTypeName(ResolvedType resolvedType) {
+    if (resolvedType.isArray()) {
+      return new ListType(getInvokeFieldTypeName(resolvedType.asArrayType().getComponentType()));
+    } else if (resolvedType.isPrimitive()) {
+      return getInvokeFieldTypeName(resolvedType.asPrimitive());
+    } else if (resolvedType.isReferenceType()) {
+      return getInvokeFieldTypeName(resolvedType.asReferenceType());
+    }
+    throw new GraphQLErrors(UNSUPPORTED_FIELD_TYPE.bind(resolvedType.toString()));
+  }
+
+  private io.graphoenix.spi.graphql.type.Type getInvokeFieldTypeName(
+      ResolvedPrimitiveType resolvedPrimitiveType) {
+    return scalarRegistry
+        .getScalar(resolvedPrimitiveType)
+        .map(TypeName::new)
+        .orElseThrow(
+            () -> new GraphQLErrors(UNSUPPORTED_FIELD_TYPE.bind(resolvedPrimitiveType.toString())));
+  }
+
+  private io.graphoenix.spi.graphql.type.Type getInvokeFieldTypeName(
+      ResolvedReferenceType resolvedReferenceType) {
+    String qualifiedName = resolvedReferenceType.getQualifiedName();
+    if (qualifiedName.equals(Mono.class.getCanonicalName())) {
+      return getInvokeFieldTypeName(
+          resolvedReferenceType.typeParametersValues().get(0).asReferenceType());
+    } else if (qualifiedName.equals(Collection.class.getCanonicalName())
+        || qualifiedName.equals(List.class.getCanonicalName())
+        || qualifiedName.equals(Set.class.getCanonicalName())
+        || qualifiedName.equals(Flux.class.getCanonicalName())) {
+      return new ListType(
+          getInvokeFieldTypeName(
+              resolvedReferenceType.typeParametersValues().get(0).asReferenceType()));
+    } else {
+      return new TypeName(
+          scalarRegistry
+              .getScalar(qualifiedName)
+              .orElseGet(
+                  () ->
+                      resolvedReferenceType
+                          .getTypeDeclaration()
+                          .map(this::findTypeName)
+                          .orElseGet(
+                              () -> qualifiedName.substring(qualifiedName.lastIndexOf(".") + 1))));
+    }
+  }
+
+  private String getAsyncMethodName(MethodDeclaration methodDeclaration) {
+    return Stream.concat(
+            Stream.of(methodDeclaration.getNameAsString() + "Async"),
+            methodDeclaration.getParameters().stream().map(NodeWithType::getTypeAsString))
+        .collect(Collectors.joining("_"));
+  }
+}
@@ -0,0 +1,104 @@
+package io.graphoenix.gradle.handler;
+
+import com.github.javaparser.ast.type.PrimitiveType;
+import com.github.javaparser.resolution.types.ResolvedPrimitiveType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.graphoenix.spi.constant.Hammurabi.*;
+
+public class ScalarRegistry {
+
+  private static final Map<String, String> DEFAULT_SCALARS = new LinkedHashMap<>();
+  private static final Map<PrimitiveType.Primitive, String> PRIMITIVE_SCALARS =
+      new EnumMap<>(PrimitiveType.Primitive.class);
+  private static final Map<ResolvedPrimitiveType, String> RESOLVED_PRIMITIVE_SCALARS =
+      new EnumMap<>(ResolvedPrimitiveType.class);
+
+  static {
+    DEFAULT_SCALARS.put(Integer.class.getCanonicalName(), SCALA_INT_NAME);
+    DEFAULT_SCALARS.put(Short.class.getCanonicalName(), SCALA_INT_NAME);
+    DEFAULT_SCALARS.put(Byte.class.getCanonicalName(), SCALA_INT_NAME);
+    DEFAULT_SCALARS.put(Float.class.getCanonicalName(), SCALA_FLOAT_NAME);
+    DEFAULT_SCALARS.put(Double.class.getCanonicalName(), SCALA_FLOAT_NAME);
+    DEFAULT_SCALARS.put(String.class.getCanonicalName(), SCALA_STRING_NAME);
+    DEFAULT_SCALARS.put(Character.class.getCanonicalName(), SCALA_STRING_NAME);
+    DEFAULT_SCALARS.put(Boolean.class.getCanonicalName(), SCALA_BOOLEAN_NAME);
+    DEFAULT_SCALARS.put(BigInteger.class.getCanonicalName(), SCALA_BIG_INTEGER_NAME);
+    DEFAULT_SCALARS.put(BigDecimal.class.getCanonicalName(), SCALA_BIG_DECIMAL_NAME);
+    DEFAULT_SCALARS.put(LocalDate.class.getCanonicalName(), SCALA_DATE_NAME);
+    DEFAULT_SCALARS.put(LocalTime.class.getCanonicalName(), SCALA_TIME_NAME);
+    DEFAULT_SCALARS.put(LocalDateTime.class.getCanonicalName(), SCALA_DATE_TIME_NAME);
+
+    PRIMITIVE_SCALARS.put(PrimitiveType.Primitive.SHORT, SCALA_INT_NAME);
+    PRIMITIVE_SCALARS.put(PrimitiveType.Primitive.INT, SCALA_INT_NAME);
+    PRIMITIVE_SCALARS.put(PrimitiveType.Primitive.LONG, SCALA_INT_NAME);
+    PRIMITIVE_SCALARS.put(PrimitiveType.Primitive.FLOAT, SCALA_FLOAT_NAME);
+    PRIMITIVE_SCALARS.put(PrimitiveType.Primitive.DOUBLE, SCALA_FLOAT_NAME);
+    PRIMITIVE_SCALARS.put(PrimitiveType.Primitive.CHAR, SCALA_STRING_NAME);
+    PRIMITIVE_SCALARS.put(PrimitiveType.Primitive.BYTE, SCALA_STRING_NAME);
+    PRIMITIVE_SCALARS.put(PrimitiveType.Primitive.BOOLEAN, SCALA_BOOLEAN_NAME);
+
+    for (ResolvedPrimitiveType resolvedPrimitiveType : ResolvedPrimitiveType.values()) {
+      RESOLVED_PRIMITIVE_SCALARS.put(
+          resolvedPrimitiveType,
+          PRIMITIVE_SCALARS.get(PrimitiveType.Primitive.valueOf(resolvedPrimitiveType.name())));
+    }
+  }
+
+  private final Map<String, String> scalars;
+  private final Map<String, String> simpleNameScalars = new HashMap<>();
+  private final Map<PrimitiveType.Primitive, String> primitiveScalars =
+      new EnumMap<>(PRIMITIVE_SCALARS);
+  private final Map<ResolvedPrimitiveType, String> resolvedPrimitiveScalars =
+      new EnumMap<>(RESOLVED_PRIMITIVE_SCALARS);
+
+  public ScalarRegistry() {
+    this(Map.of());
+  }
+
+  public ScalarRegistry(Map<String, String> customScalars) {
+    this.scalars = new HashMap<>(DEFAULT_SCALARS);
+    this.scalars.putAll(customScalars);
+    for (ResolvedPrimitiveType resolvedPrimitiveType : ResolvedPrimitiveType.values()) {
+      String scalar = customScalars.get(resolvedPrimitiveType.getBoxTypeQName());
+      if (scalar != null) {
+        resolvedPrimitiveScalars.put(resolvedPrimitiveType, scalar);
+        primitiveScalars.put(PrimitiveType.Primitive.valueOf(resolvedPrimitiveType.name()), scalar);
+      }
+    }
+    primitiveScalars.forEach(
+        (primitive, scalar) -> simpleNameScalars.put(primitive.asString(), scalar));
+    DEFAULT_SCALARS.forEach((name, scalar) -> simpleNameScalars.put(getSimpleName(name), scalar));
+    customScalars.forEach((name, scalar) -> simpleNameScalars.put(getSimpleName(name), scalar));
+  }
+
+  public Optional<String> getScalar(String qualifiedName) {
+    return Optional.ofNullable(scalars.get(qualifiedName));
+  }
+
+  public Optional<String> getScalarBySimpleName(String simpleName) {
+    return Optional.ofNullable(simpleNameScalars.get(simpleName));
+  }
+
+  public Optional<String> getScalar(PrimitiveType.Primitive primitive) {
+    return Optional.ofNullable(primitiveScalars.get(primitive));
+  }
+
+  public Optional<String> getScalar(ResolvedPrimitiveType resolvedPrimitiveType) {
+    return Optional.ofNullable(resolvedPrimitiveScalars.get(resolvedPrimitiveType));
+  }
+
+  private static String getSimpleName(String name) {
+    return name.substring(name.lastIndexOf('.') + 1);
+  }
+}
@@ -0,0 +1,191 @@
+package io.graphoenix.gradle.handler;
+
+import io.graphoenix.spi.graphql.Definition;
+import io.graphoenix.spi.graphql.Document;
+import io.graphoenix.spi.graphql.type.EnumType;
+import io.graphoenix.spi.graphql.type.FieldDefinition;
+import io.graphoenix.spi.graphql.type.InputObjectType;
+import io.graphoenix.spi.graphql.type.InterfaceType;
+import io.graphoenix.spi.graphql.type.ObjectType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SourceFragment {
+
+  private static final String FRAGMENT_TYPE_NAME = "SourceFragment";
+
+  private final List<ObjectType> objectTypes = new ArrayList<>();
+  private final List<InterfaceType> interfaceTypes = new ArrayList<>();
+  private final List<InputObjectType> inputObjectTypes = new ArrayList<>();
+  private final List<EnumType> enumTypes = new ArrayList<>();
+  private final List<SourceField> sourceFields = new ArrayList<>();
+  private final List<FieldDefinition> queryFields = new ArrayList<>();
+  private final List<FieldDefinition> mutationFields = new ArrayList<>();
+
+  public List<ObjectType> getObjectTypes() {
+    return objectTypes;
+  }
+
+  public List<InterfaceType> getInterfaceTypes() {
+    return interfaceTypes;
+  }
+
+  public List<InputObjectType> getInputObjectTypes() {
+    return inputObjectTypes;
+  }
+
+  public List<EnumType> getEnumTypes() {
+    return enumTypes;
+  }
+
+  public List<SourceField> getSourceFields() {
+    return sourceFields;
+  }
+
+  public List<FieldDefinition> getQueryFields() {
+    return queryFields;
+  }
+
+  public List<FieldDefinition> getMutationFields() {
+    return mutationFields;
+  }
+
+  public byte[] toBytes() throws IOException {
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    try (DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+      writeDefinitions(dataOutputStream, objectTypes);
+      writeDefinitions(dataOutputStream, interfaceTypes);
+      writeDefinitions(dataOutputStream, inputObjectTypes);
+      writeDefinitions(dataOutputStream, enumTypes);
+      dataOutputStream.writeInt(sourceFields.size());
+      for (SourceField sourceField : sourceFields) {
+        dataOutputStream.writeInt(sourceField.getSourceTypeNames().size());
+        for (String sourceTypeName : sourceField.getSourceTypeNames()) {
+          writeString(dataOutputStream, sourceTypeName);
+        }
+        writeString(dataOutputStream, sourceField.getObjectField().toString());
+        writeString(dataOutputStream, sourceField.getInterfaceField().toString());
+      }
+      writeFields(dataOutputStream, queryFields);
+      writeFields(dataOutputStream, mutationFields);
+    }
+    return byteArrayOutputStream.toByteArray();
+  }
+
+  public static SourceFragment fromBytes(byte[] bytes) throws IOException {
+    SourceFragment sourceFragment = new SourceFragment();
+    try (DataInputStream dataInputStream =
+        new DataInputStream(new ByteArrayInputStream(bytes))) {
+      readDefinitions(dataInputStream, sourceFragment.objectTypes, ObjectType.class);
+      readDefinitions(dataInputStream, sourceFragment.interfaceTypes, InterfaceType.class);
+      readDefinitions(dataInputStream, sourceFragment.inputObjectTypes, InputObjectType.class);
+      readDefinitions(dataInputStream, sourceFragment.enumTypes, EnumType.class);
+      int sourceFieldCount = dataInputStream.readInt();
+      for (int i = 0; i < sourceFieldCount; i++) {
+        int sourceTypeNameCount = dataInputStream.readInt();
+        List<String> sourceTypeNames = new ArrayList<>(sourceTypeNameCount);
+        for (int j = 0; j < sourceTypeNameCount; j++) {
+          sourceTypeNames.add(readString(dataInputStream));
+        }
+        sourceFragment.sourceFields.add(
+            new SourceField(
+                sourceTypeNames,
+                parseField(readString(dataInputStream)),
+                parseField(readString(dataInputStream))));
+      }
+      readFields(dataInputStream, sourceFragment.queryFields);
+      readFields(dataInputStream, sourceFragment.mutationFields);
+    }
+    return sourceFragment;
+  }
+
+  public static FieldDefinition parseField(String fieldDefinition) {
+    return new Document()
+        .merge("type " + FRAGMENT_TYPE_NAME + " {" + fieldDefinition + "}")
+        .getObjectTypeOrError(FRAGMENT_TYPE_NAME)
+        .getFields()
+        .iterator()
+        .next();
+  }
+
+  private static void writeDefinitions(
+      DataOutput dataOutput, List<? extends Definition> definitions) throws IOException {
+    dataOutput.writeInt(definitions.size());
+    for (Definition definition : definitions) {
+      writeString(dataOutput, definition.getName());
+      writeString(dataOutput, definition.toString());
+    }
+  }
+
+  private static <T> void readDefinitions(DataInput dataInput, List<T> definitions, Class<T> type)
+      throws IOException {
+    int count = dataInput.readInt();
+    for (int i = 0; i < count; i++) {
+      String name = readString(dataInput);
+      definitions.add(type.cast(new Document().merge(readString(dataInput)).getDefinition(name)));
+    }
+  }
+
+  private static void writeFields(DataOutput dataOutput, List<FieldDefinition> fieldDefinitions)
+      throws IOException {
+    dataOutput.writeInt(fieldDefinitions.size());
+    for (FieldDefinition fieldDefinition : fieldDefinitions) {
+      writeString(dataOutput, fieldDefinition.toString());
+    }
+  }
+
+  private static void readFields(DataInput dataInput, List<FieldDefinition> fieldDefinitions)
+      throws IOException {
+    int count = dataInput.readInt();
+    for (int i = 0; i < count; i++) {
+      fieldDefinitions.add(parseField(readString(dataInput)));
+    }
+  }
+
+  static void writeString(DataOutput dataOutput, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    dataOutput.writeInt(bytes.length);
+    dataOutput.write(bytes);
+  }
+
+  static String readString(DataInput dataInput) throws IOException {
+    byte[] bytes = new byte[dataInput.readInt()];
+    dataInput.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  public static class SourceField {
+
+    private final List<String> sourceTypeNames;
+    private final FieldDefinition objectField;
+    private final FieldDefinition interfaceField;
+
+    public SourceField(
+        List<String> sourceTypeNames, FieldDefinition objectField, FieldDefinition interfaceField) {
+      this.sourceTypeNames = sourceTypeNames;
+      this.objectField = objectField;
+      this.interfaceField = interfaceField;
+    }
+
+    public List<String> getSourceTypeNames() {
+      return sourceTypeNames;
+    }
+
+    public FieldDefinition getObjectField() {
+      return objectField;
+    }
+
+    public FieldDefinition getInterfaceField() {
+      return interfaceField;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package io.graphoenix.gradle.handler;
+
+import com.github.javaparser.resolution.TypeSolver;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.resolution.model.SymbolReference;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.JavaParserTypeSolver;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class SourceTypeSolver implements TypeSolver {
+
+  private final Path sourcePath;
+  private JavaParserTypeSolver javaParserTypeSolver;
+  private TypeSolver parent;
+
+  public SourceTypeSolver(Path sourcePath) {
+    this.sourcePath = sourcePath;
+    reset();
+  }
+
+  public void reset() {
+    if (Files.notExists(sourcePath)) {
+      javaParserTypeSolver = null;
+      return;
+    }
+    javaParserTypeSolver = new JavaParserTypeSolver(sourcePath);
+    javaParserTypeSolver.setParent(this);
+  }
+
+  @Override
+  public TypeSolver getParent() {
+    return parent;
+  }
+
+  @Override
+  public void setParent(TypeSolver parent) {
+    if (parent == this) {
+      throw new IllegalStateException("The parent of this TypeSolver cannot be itself.");
+    }
+    this.parent = parent;
+  }
+
+  @Override
+  public SymbolReference<ResolvedReferenceTypeDeclaration> tryToSolveType(String name) {
+    if (javaParserTypeSolver == null) {
+      return SymbolReference.unsolved();
+    }
+    return javaParserTypeSolver.tryToSolveType(name);
+  }
+}
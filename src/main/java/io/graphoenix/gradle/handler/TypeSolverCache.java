@@ -0,0 +1,153 @@
+package io.graphoenix.gradle.handler;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.resolution.declarations.ResolvedReferenceTypeDeclaration;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.CombinedTypeSolver;
+import com.github.javaparser.symbolsolver.resolution.typesolvers.ReflectionTypeSolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class TypeSolverCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(TypeSolverCache.class);
+
+  private static final Map<Path, SharedTypeSolver> typeSolvers =
+      new LinkedHashMap<>(16, 0.75f, true);
+
+  private TypeSolverCache() {}
+
+  public static synchronized CachingTypeSolver acquire(
+      Path sourcePath, List<File> classpath, ClassIndex classIndex) throws IOException {
+    Path key = sourcePath.toAbsolutePath().normalize();
+    ClassLoader parent = TypeSolverCache.class.getClassLoader();
+    String classpathKey = ClassLoaderCache.getKey(classpath, parent);
+    Map<Path, String> sourceFingerprints = getSourceFingerprints(key);
+    SharedTypeSolver sharedTypeSolver = typeSolvers.get(key);
+    if (sharedTypeSolver != null && !sharedTypeSolver.classpathKey.equals(classpathKey)) {
+      logger.info("classpath of {} changed, dropping cached type solver", key);
+      typeSolvers.remove(key).close();
+      sharedTypeSolver = null;
+    }
+    if (sharedTypeSolver == null) {
+      sharedTypeSolver =
+          new SharedTypeSolver(
+              key,
+              classpathKey,
+              classIndex,
+              ClassLoaderCache.acquire(classpath, parent));
+      typeSolvers.put(key, sharedTypeSolver);
+    } else {
+      Set<Path> changedFiles =
+          getChangedFiles(sharedTypeSolver.sourceFingerprints, sourceFingerprints);
+      if (!changedFiles.isEmpty()) {
+        sharedTypeSolver.sourceTypeSolver.reset();
+      }
+      int invalidated =
+          sharedTypeSolver.cachingTypeSolver.invalidate(
+              symbolReference ->
+                  !symbolReference.isSolved()
+                      || isDeclaredIn(symbolReference.getCorrespondingDeclaration(), changedFiles));
+      logger.info(
+          "{} source files changed in {}, {} cached types invalidated",
+          changedFiles.size(),
+          key,
+          invalidated);
+    }
+    sharedTypeSolver.sourceFingerprints = sourceFingerprints;
+    sharedTypeSolver.cachingTypeSolver.resetStatistics();
+    return sharedTypeSolver.cachingTypeSolver;
+  }
+
+  public static synchronized void trim(int maxEntries) {
+    Iterator<SharedTypeSolver> iterator = typeSolvers.values().iterator();
+    while (typeSolvers.size() > maxEntries && iterator.hasNext()) {
+      SharedTypeSolver sharedTypeSolver = iterator.next();
+      iterator.remove();
+      sharedTypeSolver.close();
+    }
+  }
+
+  private static Map<Path, String> getSourceFingerprints(Path sourcePath) throws IOException {
+    if (!Files.isDirectory(sourcePath)) {
+      return Map.of();
+    }
+    Map<Path, String> sourceFingerprints = new HashMap<>();
+    try (Stream<Path> stream = Files.walk(sourcePath)) {
+      for (Path path :
+          stream
+              .filter(file -> file.toString().endsWith(".java"))
+              .filter(Files::isRegularFile)
+              .collect(Collectors.toList())) {
+        sourceFingerprints.put(
+            path, Files.getLastModifiedTime(path).toMillis() + ":" + Files.size(path));
+      }
+    }
+    return sourceFingerprints;
+  }
+
+  private static Set<Path> getChangedFiles(
+      Map<Path, String> previousFingerprints, Map<Path, String> sourceFingerprints) {
+    Set<Path> changedFiles = new HashSet<>();
+    previousFingerprints.forEach(
+        (path, fingerprint) -> {
+          if (!fingerprint.equals(sourceFingerprints.get(path))) {
+            changedFiles.add(path);
+          }
+        });
+    sourceFingerprints.keySet().stream()
+        .filter(path -> !previousFingerprints.containsKey(path))
+        .forEach(changedFiles::add);
+    return changedFiles;
+  }
+
+  private static boolean isDeclaredIn(
+      ResolvedReferenceTypeDeclaration declaration, Set<Path> changedFiles) {
+    return declaration
+        .toAst()
+        .flatMap(Node::findCompilationUnit)
+        .flatMap(CompilationUnit::getStorage)
+        .map(storage -> changedFiles.contains(storage.getPath().toAbsolutePath().normalize()))
+        .orElse(false);
+  }
+
+  private static class SharedTypeSolver {
+
+    private final String classpathKey;
+    private final URLClassLoader classLoader;
+    private final SourceTypeSolver sourceTypeSolver;
+    private final CachingTypeSolver cachingTypeSolver;
+    private Map<Path, String> sourceFingerprints = Map.of();
+
+    private SharedTypeSolver(
+        Path sourcePath, String classpathKey, ClassIndex classIndex, URLClassLoader classLoader) {
+      this.classpathKey = classpathKey;
+      this.classLoader = classLoader;
+      this.sourceTypeSolver = new SourceTypeSolver(sourcePath);
+      CombinedTypeSolver combinedTypeSolver = new CombinedTypeSolver();
+      combinedTypeSolver.add(sourceTypeSolver);
+      combinedTypeSolver.add(new ClassIndexTypeSolver(classIndex, classLoader));
+      combinedTypeSolver.add(new ReflectionTypeSolver());
+      this.cachingTypeSolver = new CachingTypeSolver(combinedTypeSolver);
+    }
+
+    private void close() {
+      ClassLoaderCache.release(classLoader);
+    }
+  }
+}
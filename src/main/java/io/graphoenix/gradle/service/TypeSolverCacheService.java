@@ -0,0 +1,20 @@
+package io.graphoenix.gradle.service;
+
+import io.graphoenix.gradle.handler.TypeSolverCache;
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+public abstract class TypeSolverCacheService
+    implements BuildService<TypeSolverCacheService.Parameters>, AutoCloseable {
+
+  public interface Parameters extends BuildServiceParameters {
+
+    Property<Integer> getMaxEntries();
+  }
+
+  @Override
+  public void close() {
+    TypeSolverCache.trim(getParameters().getMaxEntries().get());
+  }
+}
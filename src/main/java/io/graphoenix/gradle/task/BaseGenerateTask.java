@@ -0,0 +1,22 @@
+package io.graphoenix.gradle.task;
+
+import io.graphoenix.gradle.worker.GenerateParameters;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+
+public abstract class BaseGenerateTask extends BaseTask {
+
+  @InputFiles
+  @SkipWhenEmpty
+  @PathSensitive(PathSensitivity.RELATIVE)
+  public abstract DirectoryProperty getDocumentDirectory();
+
+  @Override
+  protected void configureParameters(GenerateParameters parameters) {
+    super.configureParameters(parameters);
+    parameters.getDocumentDirectory().set(getDocumentDirectory());
+  }
+}
@@ -0,0 +1,78 @@
+package io.graphoenix.gradle.task;
+
+import io.graphoenix.gradle.service.TypeSolverCacheService;
+import io.graphoenix.gradle.worker.GenerateParameters;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.workers.WorkQueue;
+
+public abstract class BaseSourceTask extends BaseTask {
+
+  @Internal
+  public abstract ConfigurableFileCollection getSourceDirectories();
+
+  @InputFiles
+  @SkipWhenEmpty
+  @PathSensitive(PathSensitivity.RELATIVE)
+  public abstract ConfigurableFileCollection getSourceFiles();
+
+  @Classpath
+  public abstract ConfigurableFileCollection getClasspath();
+
+  @Internal
+  public abstract ConfigurableFileCollection getClassesDirectories();
+
+  @InputFiles
+  @PathSensitive(PathSensitivity.NONE)
+  public abstract ConfigurableFileCollection getUpstreamDocuments();
+
+  @Internal
+  public abstract ConfigurableFileCollection getDocumentProjectClasspath();
+
+  @Internal
+  public abstract DirectoryProperty getClassIndexDirectory();
+
+  @Input
+  public abstract MapProperty<String, String> getScalars();
+
+  @Internal
+  public abstract Property<Integer> getParseParallelism();
+
+  @Internal
+  public abstract Property<TypeSolverCacheService> getTypeSolverCacheService();
+
+  protected boolean isSharedTypeSolver() {
+    return getTypeSolverCacheService().isPresent() && !getProcessIsolation().get();
+  }
+
+  @Override
+  protected WorkQueue getWorkQueue() {
+    if (isSharedTypeSolver()) {
+      return getWorkerExecutor().noIsolation();
+    }
+    return super.getWorkQueue();
+  }
+
+  @Override
+  protected void configureParameters(GenerateParameters parameters) {
+    super.configureParameters(parameters);
+    parameters.getSourceDirectories().from(getSourceDirectories());
+    parameters.getClasspath().from(getClasspath(), getClassesDirectories());
+    parameters.getClassesDirectories().from(getClassesDirectories());
+    parameters.getParseParallelism().set(getParseParallelism());
+    parameters.getSharedTypeSolver().set(isSharedTypeSolver());
+    parameters.getClassIndexDirectory().set(getClassIndexDirectory());
+    parameters.getUpstreamDocuments().from(getUpstreamDocuments());
+    parameters.getDocumentProjectClasspath().from(getDocumentProjectClasspath());
+    parameters.getScalars().set(getScalars());
+  }
+}
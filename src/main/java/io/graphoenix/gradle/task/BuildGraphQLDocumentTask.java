@@ -0,0 +1,14 @@
+package io.graphoenix.gradle.task;
+
+import io.graphoenix.gradle.worker.BuildGraphQLDocumentAction;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.TaskAction;
+
+@CacheableTask
+public abstract class BuildGraphQLDocumentTask extends BaseSourceTask {
+
+  @TaskAction
+  public void buildGraphQLDocument() {
+    getWorkQueue().submit(BuildGraphQLDocumentAction.class, this::configureParameters);
+  }
+}
@@ -0,0 +1,5 @@
+package io.graphoenix.gradle.task;
+
+import org.gradle.api.DefaultTask;
+
+public abstract class GraphoenixWatchTask extends DefaultTask {}
@@ -0,0 +1,68 @@
+package io.graphoenix.gradle.worker;
+
+import io.graphoenix.gradle.handler.DocumentSnapshot;
+import io.graphoenix.gradle.handler.GeneratedOutput;
+import io.graphoenix.gradle.handler.GeneratorContext;
+import io.graphoenix.gradle.handler.GeneratorMetrics;
+import io.graphoenix.gradle.handler.JavaSourceRegister;
+import org.gradle.workers.WorkAction;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+public abstract class BaseWorkAction implements WorkAction<GenerateParameters> {
+
+  private static final String EXTRACTION_CACHE_FILE_NAME = "extraction.bin";
+
+  protected GeneratorContext createGeneratorContext() {
+    return new GeneratorContext(createJavaSourceRegister());
+  }
+
+  protected JavaSourceRegister createJavaSourceRegister() {
+    JavaSourceRegister javaSourceRegister =
+        new JavaSourceRegister(
+            Path.of(getParameters().getSourceDirectories().getAsPath()),
+            getParameters().getResourceDirectories().getAsPath(),
+            new ArrayList<>(getParameters().getClasspath().getFiles()),
+            getParameters().getParseParallelism().get(),
+            getParameters()
+                .getCacheDirectory()
+                .map(directory -> directory.file(EXTRACTION_CACHE_FILE_NAME).getAsFile().toPath())
+                .getOrNull(),
+            getParameters()
+                .getClassIndexDirectory()
+                .map(directory -> directory.getAsFile().toPath())
+                .getOrNull());
+    javaSourceRegister.setSharedTypeSolver(getParameters().getSharedTypeSolver().getOrElse(false));
+    javaSourceRegister.setClassesDirectories(getParameters().getClassesDirectories().getFiles());
+    return javaSourceRegister;
+  }
+
+  protected GeneratedOutput createGeneratedOutput() {
+    return new GeneratedOutput(
+        getParameters().getOutputDirectory().get().getAsFile().toPath(),
+        getParameters()
+            .getCacheDirectory()
+            .map(
+                directory ->
+                    directory.file(GeneratedOutput.MANIFEST_FILE_NAME).getAsFile().toPath())
+            .getOrNull());
+  }
+
+  protected GeneratorMetrics createGeneratorMetrics() {
+    return new GeneratorMetrics(getParameters().getTaskName().getOrNull());
+  }
+
+  protected void writeMetrics(GeneratorMetrics metrics) throws IOException {
+    metrics.write(
+        getParameters().getReportFile().map(file -> file.getAsFile().toPath()).getOrNull());
+  }
+
+  protected void readDocument() throws IOException {
+    new DocumentSnapshot()
+        .read(
+            getParameters().getDocumentDirectory().get().getAsFile().toPath(),
+            getParameters().getResourceDirectories().getAsPath());
+  }
+}
@@ -0,0 +1,62 @@
+package io.graphoenix.gradle.worker;
+
+import io.graphoenix.core.handler.DocumentBuilder;
+import io.graphoenix.core.handler.GraphQLConfigRegister;
+import io.graphoenix.gradle.handler.DocumentSnapshot;
+import io.graphoenix.gradle.handler.GeneratorContext;
+import io.graphoenix.gradle.handler.GeneratorMetrics;
+import io.graphoenix.gradle.handler.JavaSourceRegister;
+import io.nozdormu.spi.context.BeanContext;
+import org.gradle.api.GradleException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+
+public abstract class BuildGraphQLDocumentAction extends BaseWorkAction {
+
+  private static final Logger logger = LoggerFactory.getLogger(BuildGraphQLDocumentAction.class);
+
+  @Override
+  public void execute() {
+    GraphQLConfigRegister configRegister = BeanContext.get(GraphQLConfigRegister.class);
+    DocumentBuilder documentBuilder = BeanContext.get(DocumentBuilder.class);
+    GeneratorMetrics metrics = createGeneratorMetrics();
+    try (GeneratorContext generatorContext = createGeneratorContext()) {
+      JavaSourceRegister javaSourceRegister = generatorContext.getJavaSourceRegister();
+      javaSourceRegister.setMetrics(metrics);
+      javaSourceRegister.setScalars(getParameters().getScalars().get());
+      javaSourceRegister.setExcludedPackageFiles(
+          getParameters().getDocumentProjectClasspath().getFiles());
+      javaSourceRegister.init();
+      try (GeneratorMetrics.Timer timer = metrics.start("registerPackage")) {
+        configRegister.registerPackage(javaSourceRegister.createPackageClassLoader());
+      }
+      DocumentSnapshot documentSnapshot = new DocumentSnapshot();
+      try (GeneratorMetrics.Timer timer = metrics.start("mergeUpstreamDocuments")) {
+        for (File upstreamDocument : getParameters().getUpstreamDocuments().getFiles()) {
+          documentSnapshot.merge(upstreamDocument.toPath());
+          metrics.increment("upstreamDocuments");
+        }
+      }
+      try (GeneratorMetrics.Timer timer = metrics.start("build")) {
+        documentBuilder.build();
+      }
+      try (GeneratorMetrics.Timer timer = metrics.start("registerInvoke")) {
+        javaSourceRegister.registerInvoke();
+      }
+      try (GeneratorMetrics.Timer timer = metrics.start("buildInvoker")) {
+        documentBuilder.buildInvoker();
+      }
+      try (GeneratorMetrics.Timer timer = metrics.start("writeDocument")) {
+        documentSnapshot.write(getParameters().getOutputDirectory().get().getAsFile().toPath());
+      }
+      writeMetrics(metrics);
+    } catch (IOException | URISyntaxException e) {
+      logger.error(e.getMessage(), e);
+      throw new GradleException(e.getMessage(), e);
+    }
+  }
+}
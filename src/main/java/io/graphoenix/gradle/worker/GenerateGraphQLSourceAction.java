@@ -0,0 +1,60 @@
+package io.graphoenix.gradle.worker;
+
+import com.squareup.javapoet.JavaFile;
+import io.graphoenix.gradle.handler.GeneratedOutput;
+import io.graphoenix.gradle.handler.GeneratorContext;
+import io.graphoenix.gradle.handler.GeneratorMetrics;
+import io.graphoenix.java.builder.JavaFileBuilder;
+import io.nozdormu.spi.context.BeanContext;
+import org.gradle.api.GradleException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public abstract class GenerateGraphQLSourceAction extends BaseWorkAction {
+
+  private static final Logger logger = LoggerFactory.getLogger(GenerateGraphQLSourceAction.class);
+
+  @Override
+  public void execute() {
+    JavaFileBuilder javaFileBuilder = BeanContext.get(JavaFileBuilder.class);
+    GeneratorMetrics metrics = createGeneratorMetrics();
+    try (GeneratorContext generatorContext = new GeneratorContext()) {
+      try (GeneratorMetrics.Timer timer = metrics.start("readDocument")) {
+        readDocument();
+      }
+      GeneratedOutput generatedOutput = createGeneratedOutput();
+      Path stagingDirectory = generatedOutput.createStagingDirectory();
+      try {
+        int emitParallelism = getParameters().getEmitParallelism().get();
+        if (emitParallelism > 1) {
+          List<JavaFile> javaFiles;
+          try (GeneratorMetrics.Timer timer = metrics.start("buildJavaFiles")) {
+            javaFiles = javaFileBuilder.buildJavaFileList().collect(Collectors.toList());
+          }
+          metrics.count("javaFiles", javaFiles.size());
+          try (GeneratorMetrics.Timer timer = metrics.start("writeFiles")) {
+            generatedOutput.writeJavaFiles(javaFiles, stagingDirectory, emitParallelism);
+          }
+        } else {
+          try (GeneratorMetrics.Timer timer = metrics.start("writeFiles")) {
+            javaFileBuilder.writeToPath(stagingDirectory.toFile());
+          }
+        }
+        try (GeneratorMetrics.Timer timer = metrics.start("syncOutput")) {
+          generatedOutput.sync(stagingDirectory);
+        }
+      } finally {
+        generatedOutput.deleteStagingDirectory(stagingDirectory);
+      }
+      writeMetrics(metrics);
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+      throw new GradleException(e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package io.graphoenix.gradle.worker;
+
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkParameters;
+
+public interface GenerateParameters extends WorkParameters {
+
+  ConfigurableFileCollection getSourceDirectories();
+
+  ConfigurableFileCollection getResourceDirectories();
+
+  ConfigurableFileCollection getClasspath();
+
+  ConfigurableFileCollection getClassesDirectories();
+
+  DirectoryProperty getDocumentDirectory();
+
+  ConfigurableFileCollection getUpstreamDocuments();
+
+  ConfigurableFileCollection getDocumentProjectClasspath();
+
+  DirectoryProperty getOutputDirectory();
+
+  Property<Integer> getParseParallelism();
+
+  Property<Boolean> getSharedTypeSolver();
+
+  Property<Integer> getEmitParallelism();
+
+  DirectoryProperty getCacheDirectory();
+
+  DirectoryProperty getClassIndexDirectory();
+
+  MapProperty<String, String> getScalars();
+
+  Property<String> getTaskName();
+
+  RegularFileProperty getReportFile();
+}
@@ -0,0 +1,67 @@
+package io.graphoenix.gradle.worker;
+
+import io.graphoenix.core.config.PackageConfig;
+import io.graphoenix.gradle.handler.GeneratedOutput;
+import io.graphoenix.gradle.handler.GeneratorContext;
+import io.graphoenix.gradle.handler.GeneratorMetrics;
+import io.graphoenix.protobuf.handler.ProtobufFileBuilder;
+import io.nozdormu.spi.context.BeanContext;
+import org.gradle.api.GradleException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+
+public abstract class GenerateProtobufV3Action extends BaseWorkAction {
+
+  private static final Logger logger = LoggerFactory.getLogger(GenerateProtobufV3Action.class);
+
+  @Override
+  public void execute() {
+    PackageConfig packageConfig = BeanContext.get(PackageConfig.class);
+    ProtobufFileBuilder protobufFileBuilder = BeanContext.get(ProtobufFileBuilder.class);
+    GeneratorMetrics metrics = createGeneratorMetrics();
+    try (GeneratorContext generatorContext = new GeneratorContext()) {
+      try (GeneratorMetrics.Timer timer = metrics.start("readDocument")) {
+        readDocument();
+      }
+      GeneratedOutput generatedOutput = createGeneratedOutput();
+      Path stagingDirectory = generatedOutput.createStagingDirectory();
+      try {
+        Path protoPath =
+            stagingDirectory.resolve(
+                packageConfig
+                    .getPackageName()
+                    .replaceAll("\\.", Matcher.quoteReplacement(File.separator)));
+        if (Files.notExists(protoPath)) {
+          Files.createDirectories(protoPath);
+        }
+        Set<Map.Entry<String, String>> entries;
+        try (GeneratorMetrics.Timer timer = metrics.start("buildProto3")) {
+          entries = protobufFileBuilder.buildProto3().entrySet();
+        }
+        metrics.count("protoFiles", entries.size());
+        try (GeneratorMetrics.Timer timer = metrics.start("writeFiles")) {
+          for (Map.Entry<String, String> entry : entries) {
+            Files.writeString(protoPath.resolve(entry.getKey() + ".proto"), entry.getValue());
+          }
+        }
+        try (GeneratorMetrics.Timer timer = metrics.start("syncOutput")) {
+          generatedOutput.sync(stagingDirectory);
+        }
+      } finally {
+        generatedOutput.deleteStagingDirectory(stagingDirectory);
+      }
+      writeMetrics(metrics);
+    } catch (IOException e) {
+      logger.error(e.getMessage(), e);
+      throw new GradleException(e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package io.graphoenix.gradle.perf;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+public class PerformanceBudget {
+
+  private final Properties properties = new Properties();
+  private final List<String> violations = new ArrayList<>();
+
+  public PerformanceBudget(Path budgetFile) throws IOException {
+    try (Reader reader = Files.newBufferedReader(budgetFile, StandardCharsets.UTF_8)) {
+      properties.load(reader);
+    }
+  }
+
+  public List<String> getProjects() {
+    return Arrays.stream(getString("projects").split(","))
+        .map(String::trim)
+        .filter(project -> !project.isEmpty())
+        .collect(Collectors.toList());
+  }
+
+  public int getInt(String project, String name) {
+    return Integer.parseInt(getString(project + "." + name));
+  }
+
+  public long getMaxLimit(String project, String metric) {
+    String prefix = project + ".";
+    String suffix = "." + metric;
+    return properties.stringPropertyNames().stream()
+        .filter(key -> key.startsWith(prefix) && key.endsWith(suffix))
+        .mapToLong(key -> Long.parseLong(properties.getProperty(key).trim()))
+        .max()
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    "missing performance budget entry " + prefix + "*" + suffix));
+  }
+
+  public void check(String project, String scenario, String metric, long actual) {
+    String key = project + "." + scenario + "." + metric;
+    String limit = properties.getProperty(key);
+    if (limit != null && actual > Long.parseLong(limit.trim())) {
+      violations.add(key + ": " + actual + " > " + limit.trim());
+    }
+  }
+
+  public List<String> getViolations() {
+    return violations;
+  }
+
+  private String getString(String key) {
+    String value = properties.getProperty(key);
+    if (value == null) {
+      throw new IllegalArgumentException("missing performance budget entry " + key);
+    }
+    return value.trim();
+  }
+}
@@ -0,0 +1,197 @@
+package io.graphoenix.gradle.perf;
+
+import io.graphoenix.gradle.fixtures.SyntheticSources;
+import org.gradle.testkit.runner.GradleRunner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class PerformanceSuite {
+
+  private static final String[] TASKS = {"generateGraphQLSource", "generateProtobufV3"};
+  private static final String TEST_KIT_PATH = "testkit";
+  private static final String GC_LOG_FILE_NAME = "gc.log";
+  private static final int DAEMON_HEAP_HEADROOM_FACTOR = 2;
+  private static final String GC_INIT_SCRIPT_FILE_NAME = "system-gc.gradle";
+  private static final Pattern GC_PATTERN = Pattern.compile("(\\d+)([KMG])->\\d+[KMG]\\(");
+  private static final Pattern SYSTEM_GC_PATTERN =
+      Pattern.compile("\\(System\\.gc\\(\\)\\) \\d+[KMG]->(\\d+)([KMG])\\(");
+
+  private final PerformanceBudget budget;
+  private final Path workDirectory;
+  private final String graphoenixVersion;
+
+  public PerformanceSuite(PerformanceBudget budget, Path workDirectory, String graphoenixVersion) {
+    this.budget = budget;
+    this.workDirectory = workDirectory;
+    this.graphoenixVersion = graphoenixVersion;
+  }
+
+  public static void main(String[] args) throws IOException {
+    PerformanceSuite performanceSuite =
+        new PerformanceSuite(
+            new PerformanceBudget(Path.of(System.getProperty("performance.budget"))),
+            Path.of(System.getProperty("performance.workDirectory")),
+            System.getProperty("graphoenix.version"));
+    List<String> violations = performanceSuite.run();
+    if (!violations.isEmpty()) {
+      throw new IllegalStateException(
+          "performance budget exceeded:\n  " + String.join("\n  ", violations));
+    }
+  }
+
+  public List<String> run() throws IOException {
+    SyntheticSources.delete(workDirectory);
+    for (String project : budget.getProjects()) {
+      SyntheticProject syntheticProject =
+          new SyntheticProject(
+              workDirectory.resolve(project),
+              graphoenixVersion,
+              budget.getInt(project, "types"),
+              budget.getInt(project, "inputs"),
+              budget.getInt(project, "enums"),
+              budget.getInt(project, "apis"),
+              budget.getInt(project, "methods"));
+      syntheticProject.write();
+      writeGradleProperties(
+          syntheticProject,
+          budget.getMaxLimit(project, "peakHeapMegabytes") * DAEMON_HEAP_HEADROOM_FACTOR);
+      Path testKitDirectory = workDirectory.resolve(TEST_KIT_PATH).resolve(project);
+      measure(project, "cold", syntheticProject, testKitDirectory);
+      measure(project, "warm", syntheticProject, testKitDirectory, "--rerun-tasks");
+      syntheticProject.changeOneType();
+      measure(project, "incremental", syntheticProject, testKitDirectory);
+      measureHeapGrowth(
+          project, syntheticProject, testKitDirectory, budget.getInt(project, "repeats"));
+    }
+    return budget.getViolations();
+  }
+
+  private void measure(
+      String project,
+      String scenario,
+      SyntheticProject syntheticProject,
+      Path testKitDirectory,
+      String... options)
+      throws IOException {
+    Path gcLogFile = getGcLogFile(syntheticProject);
+    long gcLogOffset = getSize(gcLogFile);
+    long wallTimeMillis = build(syntheticProject, testKitDirectory, options);
+    long peakHeapMegabytes =
+        readGcMegabytes(gcLogFile, gcLogOffset, GC_PATTERN).stream()
+            .mapToLong(Long::longValue)
+            .max()
+            .orElse(0);
+    System.out.printf(
+        "%s %s: %d ms, peak heap %d MB%n", project, scenario, wallTimeMillis, peakHeapMegabytes);
+    budget.check(project, scenario, "wallTimeMillis", wallTimeMillis);
+    budget.check(project, scenario, "peakHeapMegabytes", peakHeapMegabytes);
+  }
+
+  private void measureHeapGrowth(
+      String project, SyntheticProject syntheticProject, Path testKitDirectory, int repeats)
+      throws IOException {
+    Path initScript = workDirectory.resolve(GC_INIT_SCRIPT_FILE_NAME);
+    Files.writeString(initScript, "gradle.buildFinished { System.gc() }\n");
+    Path gcLogFile = getGcLogFile(syntheticProject);
+    List<Long> retainedHeapMegabytes = new ArrayList<>();
+    for (int repeat = 0; repeat < repeats; repeat++) {
+      long gcLogOffset = getSize(gcLogFile);
+      build(
+          syntheticProject,
+          testKitDirectory,
+          "--rerun-tasks",
+          "--init-script",
+          initScript.toAbsolutePath().toString());
+      List<Long> systemGcMegabytes = readGcMegabytes(gcLogFile, gcLogOffset, SYSTEM_GC_PATTERN);
+      if (!systemGcMegabytes.isEmpty()) {
+        retainedHeapMegabytes.add(systemGcMegabytes.get(systemGcMegabytes.size() - 1));
+      }
+    }
+    long heapGrowthMegabytes =
+        retainedHeapMegabytes.size() < 2
+            ? 0
+            : retainedHeapMegabytes.get(retainedHeapMegabytes.size() - 1)
+                - retainedHeapMegabytes.get(0);
+    System.out.printf(
+        "%s repeated: retained heap %s MB, growth %d MB%n",
+        project, retainedHeapMegabytes, heapGrowthMegabytes);
+    budget.check(project, "repeated", "heapGrowthMegabytes", heapGrowthMegabytes);
+  }
+
+  private static long build(
+      SyntheticProject syntheticProject, Path testKitDirectory, String... options) {
+    List<String> arguments = new ArrayList<>(List.of(TASKS));
+    arguments.addAll(List.of(options));
+    arguments.add("--stacktrace");
+    long startNanos = System.nanoTime();
+    GradleRunner.create()
+        .withProjectDir(syntheticProject.getProjectDirectory().toFile())
+        .withTestKitDir(testKitDirectory.toFile())
+        .withPluginClasspath()
+        .withArguments(arguments)
+        .forwardOutput()
+        .build();
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+
+  private static Path getGcLogFile(SyntheticProject syntheticProject) {
+    return syntheticProject.getProjectDirectory().resolve(GC_LOG_FILE_NAME);
+  }
+
+  private static long getSize(Path file) throws IOException {
+    return Files.exists(file) ? Files.size(file) : 0;
+  }
+
+  private static void writeGradleProperties(
+      SyntheticProject syntheticProject, long maxHeapMegabytes) throws IOException {
+    String gcLogFile =
+        syntheticProject
+            .getProjectDirectory()
+            .resolve(GC_LOG_FILE_NAME)
+            .toAbsolutePath()
+            .toString()
+            .replace('\\', '/');
+    Files.writeString(
+        syntheticProject.getProjectDirectory().resolve("gradle.properties"),
+        "org.gradle.jvmargs=-Xmx"
+            + maxHeapMegabytes
+            + "m -Xlog:gc:file=\""
+            + gcLogFile
+            + "\"\n");
+  }
+
+  /** Heap sizes in MB captured by {@code pattern} in the GC log lines written after offset. */
+  private static List<Long> readGcMegabytes(Path gcLogFile, long gcLogOffset, Pattern pattern)
+      throws IOException {
+    List<Long> megabytes = new ArrayList<>();
+    if (Files.notExists(gcLogFile)) {
+      return megabytes;
+    }
+    byte[] bytes = Files.readAllBytes(gcLogFile);
+    int offset = gcLogOffset <= bytes.length ? (int) gcLogOffset : 0;
+    Matcher matcher =
+        pattern.matcher(new String(bytes, offset, bytes.length - offset, StandardCharsets.UTF_8));
+    while (matcher.find()) {
+      long size = Long.parseLong(matcher.group(1));
+      switch (matcher.group(2)) {
+        case "K":
+          size >>= 10;
+          break;
+        case "G":
+          size <<= 10;
+          break;
+        default:
+      }
+      megabytes.add(size);
+    }
+    return megabytes;
+  }
+}
@@ -0,0 +1,149 @@
+package io.graphoenix.gradle.perf;
+
+import io.graphoenix.gradle.fixtures.SyntheticSources;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class SyntheticProject {
+
+  private final Path projectDirectory;
+  private final String graphoenixVersion;
+  private final int types;
+  private final int inputs;
+  private final int enums;
+  private final int apis;
+  private final int methods;
+
+  public SyntheticProject(
+      Path projectDirectory,
+      String graphoenixVersion,
+      int types,
+      int inputs,
+      int enums,
+      int apis,
+      int methods) {
+    this.projectDirectory = projectDirectory;
+    this.graphoenixVersion = graphoenixVersion;
+    this.types = types;
+    this.inputs = inputs;
+    this.enums = enums;
+    this.apis = apis;
+    this.methods = methods;
+  }
+
+  public Path getProjectDirectory() {
+    return projectDirectory;
+  }
+
+  public void write() throws IOException {
+    Files.createDirectories(projectDirectory);
+    Files.writeString(
+        projectDirectory.resolve("settings.gradle"),
+        "rootProject.name = '" + projectDirectory.getFileName() + "'\n");
+    Files.writeString(projectDirectory.resolve("build.gradle"), buildScript());
+    Path sourcePath = getSourcePath();
+    SyntheticSources.writePackageInfo(sourcePath);
+    for (int index = 0; index < types; index++) {
+      SyntheticSources.writeType(sourcePath, index);
+    }
+    for (int index = 0; index < inputs; index++) {
+      SyntheticSources.writeInput(sourcePath, index);
+    }
+    for (int index = 0; index < enums; index++) {
+      SyntheticSources.writeEnum(sourcePath, index);
+    }
+    for (int index = 0; index < apis; index++) {
+      String packageName = SyntheticSources.getPackageName(index);
+      SyntheticSources.write(sourcePath, packageName, "Api" + index, buildApi(packageName, index));
+    }
+  }
+
+  public void changeOneType() throws IOException {
+    Files.writeString(
+        SyntheticSources.getPackagePath(getSourcePath(), SyntheticSources.getPackageName(0))
+            .resolve("Type0.java"),
+        "\nclass Type0Change" + System.nanoTime() + " {}\n",
+        StandardOpenOption.APPEND);
+  }
+
+  private Path getSourcePath() {
+    return projectDirectory.resolve("src/main/java");
+  }
+
+  private String buildScript() {
+    return "plugins {\n"
+        + "    id 'java'\n"
+        + "    id 'io.graphoenix'\n"
+        + "}\n\n"
+        + "repositories {\n"
+        + "    mavenCentral()\n"
+        + "    mavenLocal()\n"
+        + "}\n\n"
+        + "dependencies {\n"
+        + "    implementation platform('org.graphoenix:graphoenix-platform:"
+        + graphoenixVersion
+        + "')\n"
+        + "    implementation 'org.graphoenix:graphoenix-core'\n"
+        + "}\n";
+  }
+
+  private String buildApi(String packageName, int index) {
+    StringBuilder stringBuilder =
+        new StringBuilder("package ")
+            .append(packageName)
+            .append(";\n\n")
+            .append("import org.eclipse.microprofile.graphql.GraphQLApi;\n")
+            .append("import org.eclipse.microprofile.graphql.Mutation;\n")
+            .append("import org.eclipse.microprofile.graphql.Query;\n")
+            .append("import org.eclipse.microprofile.graphql.Source;\n\n")
+            .append("@GraphQLApi\n")
+            .append("public class Api")
+            .append(index)
+            .append(" {\n");
+    for (int method = 0; method < methods; method++) {
+      String typeName =
+          SyntheticSources.getQualifiedName("Type", (index * methods + method) % types);
+      switch (method % 3) {
+        case 0:
+          stringBuilder
+              .append("\n  @Query\n  public ")
+              .append(typeName)
+              .append(" api")
+              .append(index)
+              .append("Query")
+              .append(method)
+              .append("(String name) {\n    return null;\n  }\n");
+          break;
+        case 1:
+          stringBuilder
+              .append("\n  @Mutation\n  public ")
+              .append(typeName)
+              .append(" api")
+              .append(index)
+              .append("Mutation")
+              .append(method)
+              .append("(")
+              .append(
+                  inputs > 0
+                      ? SyntheticSources.getQualifiedName(
+                          "Input", (index * methods + method) % inputs)
+                      : "String")
+              .append(" input) {\n    return null;\n  }\n");
+          break;
+        default:
+          stringBuilder
+              .append("\n  public String api")
+              .append(index)
+              .append("Source")
+              .append(method)
+              .append("(@Source ")
+              .append(typeName)
+              .append(" source) {\n    return null;\n  }\n");
+      }
+    }
+    return stringBuilder.append("}\n").toString();
+  }
+}
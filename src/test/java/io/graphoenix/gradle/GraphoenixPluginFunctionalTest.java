@@ -0,0 +1,49 @@
+package io.graphoenix.gradle;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GraphoenixPluginFunctionalTest {
+
+  @TempDir Path projectDirectory;
+
+  @Test
+  void skipsSourceSetWithoutJavaDirectory() throws IOException {
+    Files.writeString(projectDirectory.resolve("settings.gradle"), "rootProject.name = 'empty'\n");
+    Files.writeString(
+        projectDirectory.resolve("build.gradle"),
+        "plugins {\n"
+            + "    id 'java'\n"
+            + "    id 'io.graphoenix'\n"
+            + "}\n\n"
+            + "sourceSets {\n"
+            + "    integration\n"
+            + "}\n");
+
+    BuildResult result =
+        GradleRunner.create()
+            .withProjectDir(projectDirectory.toFile())
+            .withPluginClasspath()
+            .withArguments(
+                "buildIntegrationGraphQLDocument",
+                "generateIntegrationGraphQLSource",
+                "generateIntegrationProtobufV3")
+            .build();
+
+    assertEquals(
+        TaskOutcome.NO_SOURCE, result.task(":buildIntegrationGraphQLDocument").getOutcome());
+    assertEquals(
+        TaskOutcome.NO_SOURCE, result.task(":generateIntegrationGraphQLSource").getOutcome());
+    assertEquals(
+        TaskOutcome.NO_SOURCE, result.task(":generateIntegrationProtobufV3").getOutcome());
+  }
+}